@@ -0,0 +1,59 @@
+package com.kopo.hanacard.card.config;
+
+import com.kopo.hanacard.card.domain.EcoMerchant;
+import com.kopo.hanacard.card.repository.EcoMerchantRepository;
+import com.kopo.hanacard.card.service.EcoMerchantDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 친환경 가맹점 사전 기본 데이터. 거래 더미데이터가 분류되도록 다른 초기화보다 먼저 실행한다.
+ * 운영 DB 는 db/migration/007_eco_merchants.sql 로 같은 데이터를 넣는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class EcoMerchantDataInitializer implements CommandLineRunner {
+
+    private final EcoMerchantRepository ecoMerchantRepository;
+    private final EcoMerchantDictionary ecoMerchantDictionary;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (ecoMerchantRepository.count() == 0) {
+            ecoMerchantRepository.saveAll(List.of(
+                category("EV_CHARGING", "전기차", "전기차 충전소"),
+                category("PUBLIC_TRANSPORT", "대중교통", "지하철, 버스"),
+                category("SHARED_MOBILITY", "공유킥보드", "공유 킥보드, 공유 자전거"),
+                category("REFILL_STATION", "리필샵", "리필 스테이션"),
+                category("ECO_BRAND", "친환경", "친환경 인증 브랜드"),
+                category("ORGANIC_FOOD", "유기농", "유기농 식품"),
+                category("RECYCLING", "재활용", "재활용, 중고 거래"),
+                EcoMerchant.builder()
+                    .matchType(EcoMerchant.MATCH_BUSINESS_NUMBER)
+                    .matchKey("234-56-78901")
+                    .ecoTag("전기차")
+                    .description("테슬라 충전소")
+                    .build()
+            ));
+            log.info("친환경 가맹점 사전 기본 데이터가 생성되었습니다.");
+        }
+        ecoMerchantDictionary.reload();
+    }
+
+    private EcoMerchant category(String merchantCategory, String ecoTag, String description) {
+        return EcoMerchant.builder()
+            .matchType(EcoMerchant.MATCH_MERCHANT_CATEGORY)
+            .matchKey(merchantCategory)
+            .ecoTag(ecoTag)
+            .description(description)
+            .build();
+    }
+}
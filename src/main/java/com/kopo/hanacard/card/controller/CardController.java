@@ -1,6 +1,7 @@
 package com.kopo.hanacard.card.controller;
 
 import com.kopo.hanacard.common.dto.ApiResponse;
+import com.kopo.hanacard.common.dto.CursorPageResponse;
 import com.kopo.hanacard.card.domain.CardProduct;
 import com.kopo.hanacard.card.domain.CardBenefit;
 import com.kopo.hanacard.card.domain.UserCard;
@@ -9,7 +10,10 @@ import com.kopo.hanacard.card.dto.UserCardResponse;
 import com.kopo.hanacard.card.dto.CardProductResponse;
 import com.kopo.hanacard.card.service.CardService;
 import com.kopo.hanacard.card.service.CardProductService;
+import com.kopo.hanacard.card.service.CardTransactionExportService;
+import com.kopo.hanacard.card.service.CardTransactionExportService.ExportFormat;
 import com.kopo.hanacard.card.service.CardTransactionService;
+import com.kopo.hanacard.card.service.EcoMerchantDictionary;
 import com.kopo.hanacard.card.dto.CardTransactionResponse;
 import com.kopo.hanacard.card.dto.CardConsumptionSummaryResponse;
 import com.kopo.hanacard.card.dto.CardBenefitResponse;
@@ -18,9 +22,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Tag(name = "카드 관리", description = "카드 관련 API")
@@ -32,6 +43,8 @@ public class CardController {
     private final CardService cardService;
     private final CardProductService cardProductService;
     private final CardTransactionService cardTransactionService;
+    private final CardTransactionExportService cardTransactionExportService;
+    private final EcoMerchantDictionary ecoMerchantDictionary;
 
     @Operation(summary = "카드 목록 조회", description = "모든 활성 카드를 조회합니다.")
     @GetMapping
@@ -92,13 +105,34 @@ public class CardController {
         return ApiResponse.success(products);
     }
 
-    @Operation(summary = "사용자 카드 거래내역 조회", description = "사용자의 카드 거래내역을 조회합니다.")
+    @Operation(summary = "사용자 카드 거래내역 조회",
+            description = "사용자의 카드 거래내역을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping("/user/{userId}/transactions")
-    public ApiResponse<List<CardTransactionResponse>> getUserCardTransactions(@PathVariable Long userId) {
-        List<CardTransactionResponse> transactions = cardTransactionService.getUserCardTransactions(userId);
+    public ApiResponse<CursorPageResponse<CardTransactionResponse>> getUserCardTransactions(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<CardTransactionResponse> transactions = cardTransactionService.getUserCardTransactions(userId, cursor, size);
         return ApiResponse.success(transactions);
     }
 
+    @Operation(summary = "카드 거래내역 내보내기",
+            description = "정산용으로 사용자의 전체 카드 거래를 오래된 순으로 내보냅니다. format 은 csv 또는 ndjson 이며 기간은 날짜 단위로 양 끝을 포함합니다.")
+    @GetMapping("/user/{userId}/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = cardTransactionExportService.export(userId, from, to, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"card-transactions-" + userId + "." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     @Operation(summary = "월간 소비현황 요약", description = "사용자의 이번 달 카드 소비현황을 요약해서 조회합니다.")
     @GetMapping("/consumption/summary")
     public ApiResponse<CardConsumptionSummaryResponse> getMonthlyConsumptionSummary(HttpServletRequest request) {
@@ -107,11 +141,15 @@ public class CardController {
         return ApiResponse.success(summary);
     }
 
-    @Operation(summary = "카테고리별 거래내역 조회", description = "특정 카테고리의 거래내역을 조회합니다.")
+    @Operation(summary = "카테고리별 거래내역 조회", description = "특정 카테고리의 거래내역을 최신순 커서 페이지로 조회합니다.")
     @GetMapping("/user/{userId}/transactions/category/{category}")
-    public ApiResponse<List<CardTransactionResponse>> getTransactionsByCategory(@PathVariable Long userId, 
-                                                                              @PathVariable String category) {
-        List<CardTransactionResponse> transactions = cardTransactionService.getTransactionsByCategory(userId, category);
+    public ApiResponse<CursorPageResponse<CardTransactionResponse>> getTransactionsByCategory(
+            @PathVariable Long userId,
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<CardTransactionResponse> transactions =
+                cardTransactionService.getTransactionsByCategory(userId, category, cursor, size);
         return ApiResponse.success(transactions);
     }
 
@@ -132,11 +170,21 @@ public class CardController {
         return ApiResponse.success(analysis);
     }
 
-    @Operation(summary = "태그별 거래내역 조회", description = "특정 태그의 거래내역을 조회합니다.")
+    @Operation(summary = "친환경 가맹점 사전 다시 읽기", description = "친환경 가맹점 분류 사전을 즉시 다시 읽습니다. 이후 저장되는 거래부터 반영됩니다.")
+    @PostMapping("/eco-merchants/reload")
+    public ApiResponse<Map<String, Object>> reloadEcoMerchants() {
+        return ApiResponse.success("친환경 가맹점 사전을 다시 읽었습니다.", ecoMerchantDictionary.reload());
+    }
+
+    @Operation(summary = "태그별 거래내역 조회", description = "특정 태그의 거래내역을 최신순 커서 페이지로 조회합니다.")
     @GetMapping("/user/{userId}/transactions/tag/{tag}")
-    public ApiResponse<List<CardTransactionResponse>> getTransactionsByTag(@PathVariable Long userId, 
-                                                                          @PathVariable String tag) {
-        List<CardTransactionResponse> transactions = cardTransactionService.getTransactionsByTag(userId, tag);
+    public ApiResponse<CursorPageResponse<CardTransactionResponse>> getTransactionsByTag(
+            @PathVariable Long userId,
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<CardTransactionResponse> transactions =
+                cardTransactionService.getTransactionsByTag(userId, tag, cursor, size);
         return ApiResponse.success(transactions);
     }
 }
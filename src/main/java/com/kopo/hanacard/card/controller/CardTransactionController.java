@@ -1,9 +1,13 @@
 package com.kopo.hanacard.card.controller;
 
 import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.dto.CardTransactionBatchRequest;
+import com.kopo.hanacard.card.dto.CardTransactionBatchResponse;
 import com.kopo.hanacard.card.service.CardTransactionService;
 import com.kopo.hanacard.card.service.WebhookService;
+import com.kopo.hanacard.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -54,6 +58,21 @@ public class CardTransactionController {
         }
     }
 
+    @PostMapping("/batch")
+    @Operation(
+        summary = "카드 거래 일괄 생성",
+        description = "정산 파일 재처리용으로 여러 건의 카드 거래를 한 번에 생성하고 행별 처리 결과를 반환합니다."
+    )
+    public ApiResponse<CardTransactionBatchResponse> createCardTransactions(
+            @Valid @RequestBody CardTransactionBatchRequest request) {
+
+        CardTransactionBatchResponse response = cardTransactionService.createCardTransactions(request.getTransactions());
+        return ApiResponse.success(
+            String.format("%d건 중 %d건의 카드 거래가 생성되었습니다.", response.getTotalCount(), response.getSuccessCount()),
+            response
+        );
+    }
+
     @PostMapping("/test-eco-merchant")
     @Operation(
         summary = "친환경 가맹점 거래 테스트",
@@ -1,6 +1,8 @@
 package com.kopo.hanacard.card.domain;
 
+import com.kopo.hanacard.card.event.CardCatalogChangeListener;
 import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
 import jakarta.persistence.*;
 import org.hibernate.annotations.GenericGenerator;
 import lombok.AccessLevel;
@@ -12,13 +14,14 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "card_benefits")
+@EntityListeners(CardCatalogChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CardBenefit extends DateTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_benefits_seq")
-    @SequenceGenerator(name = "card_benefits_seq", sequenceName = "CARD_BENEFITS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "card_benefits_seq", sequenceName = "CARD_BENEFITS_SEQ", allocationSize = SequenceAllocation.CARD_BENEFITS)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
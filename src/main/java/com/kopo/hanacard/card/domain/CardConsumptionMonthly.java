@@ -0,0 +1,51 @@
+package com.kopo.hanacard.card.domain;
+
+import com.kopo.hanacard.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카드별·월별·카테고리별 소비 집계.
+ * 거래 저장과 같은 트랜잭션에서 CardConsumptionAggregator 가 네이티브 UPDATE(행이 없으면 중복을 건너뛰는 INSERT)로 누적하며,
+ * 애플리케이션은 엔티티로 읽기만 한다.
+ */
+@Entity
+@Table(name = "card_consumption_monthly",
+       uniqueConstraints = @UniqueConstraint(name = "uk_card_consumption_monthly",
+                                             columnNames = {"user_card_id", "year_month", "category"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardConsumptionMonthly extends DateTimeEntity {
+
+    // 행은 CardConsumptionMonthlyRepository.insertIfAbsent 의 CARD_CONSUMPTION_MONTHLY_SEQ.NEXTVAL 로만 만들어진다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_consumption_monthly_seq")
+    @SequenceGenerator(name = "card_consumption_monthly_seq", sequenceName = "CARD_CONSUMPTION_MONTHLY_SEQ", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "user_card_id", nullable = false)
+    private Long userCardId;
+
+    @Column(name = "year_month", nullable = false, length = 7)
+    private String yearMonth; // yyyy-MM
+
+    @Column(name = "category", nullable = false, length = 100)
+    private String category;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount = 0L;
+
+    @Column(name = "total_cashback", nullable = false)
+    private Long totalCashback = 0L;
+
+    @Column(name = "eco_amount", nullable = false)
+    private Long ecoAmount = 0L;
+
+    @Column(name = "eco_cashback", nullable = false)
+    private Long ecoCashback = 0L;
+
+    @Column(name = "tx_count", nullable = false)
+    private Long txCount = 0L;
+}
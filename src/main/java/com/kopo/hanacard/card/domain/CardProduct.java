@@ -1,6 +1,8 @@
 package com.kopo.hanacard.card.domain;
 
+import com.kopo.hanacard.card.event.CardCatalogChangeListener;
 import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
 import jakarta.persistence.*;
 import org.hibernate.annotations.GenericGenerator;
 import lombok.AccessLevel;
@@ -9,13 +11,14 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "card_products")
+@EntityListeners(CardCatalogChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CardProduct extends DateTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_products_seq")
-    @SequenceGenerator(name = "card_products_seq", sequenceName = "CARD_PRODUCTS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "card_products_seq", sequenceName = "CARD_PRODUCTS_SEQ", allocationSize = SequenceAllocation.CARD_PRODUCTS)
     @Column(name = "product_id")
     private Long productId;
 
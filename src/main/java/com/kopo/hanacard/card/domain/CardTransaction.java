@@ -1,6 +1,7 @@
 package com.kopo.hanacard.card.domain;
 
 import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
 import jakarta.persistence.*;
 import org.hibernate.annotations.GenericGenerator;
 import lombok.AccessLevel;
@@ -12,14 +13,17 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "card_transactions")
+@Table(name = "card_transactions", indexes = {
+        @Index(name = "idx_card_tx_card_date_id", columnList = "user_card_id, transaction_date DESC, id DESC"),
+        @Index(name = "idx_card_tx_card_category_date", columnList = "user_card_id, category, transaction_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CardTransaction extends DateTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_transactions_seq")
-    @SequenceGenerator(name = "card_transactions_seq", sequenceName = "CARD_TRANSACTIONS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "card_transactions_seq", sequenceName = "CARD_TRANSACTIONS_SEQ", allocationSize = SequenceAllocation.CARD_TRANSACTIONS)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -56,6 +60,9 @@ public class CardTransaction extends DateTimeEntity {
     @Column(name = "business_number", length = 20)
     private String businessNumber; // 사업자 번호 (친환경 가맹점 매칭용)
 
+    @Column(name = "is_eco", nullable = false)
+    private Boolean isEco = false; // 저장 시 친환경 가맹점 사전으로 판정
+
     @Builder
     public CardTransaction(UserCard userCard, LocalDateTime transactionDate, String merchantName,
                           String category, Long amount, Long cashbackAmount, BigDecimal cashbackRate,
@@ -72,5 +79,24 @@ public class CardTransaction extends DateTimeEntity {
         this.tags = tags;
         this.businessNumber = businessNumber;
     }
-}
 
+    /**
+     * 친환경 가맹점으로 판정된 거래에 표시하고 분류 태그를 tags 에 더한다. 저장 전에만 호출한다.
+     */
+    public void markEco(String ecoTag) {
+        this.isEco = true;
+        if (ecoTag == null || ecoTag.isBlank()) {
+            return;
+        }
+        if (this.tags == null || this.tags.isBlank()) {
+            this.tags = ecoTag;
+            return;
+        }
+        for (String tag : this.tags.split(",")) {
+            if (tag.trim().equals(ecoTag)) {
+                return;
+            }
+        }
+        this.tags = this.tags + "," + ecoTag;
+    }
+}
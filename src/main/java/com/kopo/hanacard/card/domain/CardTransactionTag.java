@@ -0,0 +1,52 @@
+package com.kopo.hanacard.card.domain;
+
+import com.kopo.hanacard.common.domain.SequenceAllocation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카드 거래 태그 색인. CardTransaction.tags(쉼표 구분 문자열)를 태그 한 개당 한 행으로 풀어 둔다.
+ * user_card_id 와 transaction_date 를 함께 저장해 태그 조회가 거래 테이블을 훑지 않고 인덱스 범위만 읽도록 한다.
+ */
+@Entity
+@Table(name = "card_transaction_tags",
+       uniqueConstraints = @UniqueConstraint(name = "uk_card_tx_tag", columnNames = {"card_transaction_id", "tag"}),
+       indexes = @Index(name = "idx_card_tx_tag_lookup",
+                        columnList = "user_card_id, tag, transaction_date DESC, card_transaction_id DESC"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardTransactionTag {
+
+    public static final int MAX_TAG_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_transaction_tags_seq")
+    @SequenceGenerator(name = "card_transaction_tags_seq", sequenceName = "CARD_TRANSACTION_TAGS_SEQ", allocationSize = SequenceAllocation.CARD_TRANSACTION_TAGS)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "card_transaction_id", nullable = false)
+    private CardTransaction transaction;
+
+    @Column(name = "user_card_id", nullable = false)
+    private Long userCardId;
+
+    @Column(name = "tag", nullable = false, length = MAX_TAG_LENGTH)
+    private String tag;
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDateTime transactionDate;
+
+    @Builder
+    public CardTransactionTag(CardTransaction transaction, Long userCardId, String tag, LocalDateTime transactionDate) {
+        this.transaction = transaction;
+        this.userCardId = userCardId;
+        this.tag = tag;
+        this.transactionDate = transactionDate;
+    }
+}
@@ -0,0 +1,72 @@
+package com.kopo.hanacard.card.domain;
+
+import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 친환경 가맹점 분류 사전의 한 항목.
+ * 사업자 번호(숫자만) 또는 가맹점 업종 코드(merchantCategory) 하나를 친환경 태그 하나에 대응시킨다.
+ */
+@Entity
+@Table(name = "eco_merchants",
+       uniqueConstraints = @UniqueConstraint(name = "uk_eco_merchants_match", columnNames = {"match_type", "match_key"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EcoMerchant extends DateTimeEntity {
+
+    public static final String MATCH_BUSINESS_NUMBER = "BUSINESS_NUMBER";
+    public static final String MATCH_MERCHANT_CATEGORY = "MERCHANT_CATEGORY";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eco_merchants_seq")
+    @SequenceGenerator(name = "eco_merchants_seq", sequenceName = "ECO_MERCHANTS_SEQ", allocationSize = SequenceAllocation.ECO_MERCHANTS)
+    private Long id;
+
+    @Column(name = "match_type", nullable = false, length = 30)
+    private String matchType;
+
+    @Column(name = "match_key", nullable = false, length = 50)
+    private String matchKey;
+
+    @Column(name = "eco_tag", nullable = false, length = 50)
+    private String ecoTag; // 전기차, 대중교통, 리필샵 등
+
+    @Column(name = "description", length = 200)
+    private String description;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+
+    @Builder
+    public EcoMerchant(String matchType, String matchKey, String ecoTag, String description) {
+        this.matchType = matchType;
+        this.matchKey = MATCH_BUSINESS_NUMBER.equals(matchType) ? normalizeBusinessNumber(matchKey) : matchKey;
+        this.ecoTag = ecoTag;
+        this.description = description;
+        this.isActive = true;
+    }
+
+    public void deactivate() {
+        this.isActive = false;
+    }
+
+    // 하이픈 유무와 관계없이 찾을 수 있도록 숫자만 남긴다
+    public static String normalizeBusinessNumber(String businessNumber) {
+        if (businessNumber == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(businessNumber.length());
+        for (int i = 0; i < businessNumber.length(); i++) {
+            char c = businessNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+}
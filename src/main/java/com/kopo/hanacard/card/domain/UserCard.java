@@ -1,6 +1,7 @@
 package com.kopo.hanacard.card.domain;
 
 import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
 import com.kopo.hanacard.user.domain.User;
 import jakarta.persistence.*;
 import org.hibernate.annotations.GenericGenerator;
@@ -19,7 +20,7 @@ public class UserCard extends DateTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_cards_seq")
-    @SequenceGenerator(name = "user_cards_seq", sequenceName = "USER_CARDS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "user_cards_seq", sequenceName = "USER_CARDS_SEQ", allocationSize = SequenceAllocation.USER_CARDS)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
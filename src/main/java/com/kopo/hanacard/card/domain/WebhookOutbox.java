@@ -0,0 +1,94 @@
+package com.kopo.hanacard.card.domain;
+
+import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 하나그린세상 웹훅 아웃박스.
+ * 거래와 같은 트랜잭션에서 기록되고, 커밋 이후 WebhookOutboxDispatcher 가 배치로 전송한다.
+ */
+@Entity
+@Table(name = "webhook_outbox",
+       indexes = {
+               @Index(name = "idx_webhook_outbox_due", columnList = "status, next_attempt_at"),
+               @Index(name = "idx_webhook_outbox_done", columnList = "status, updated_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WebhookOutbox extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "webhook_outbox_seq")
+    @SequenceGenerator(name = "webhook_outbox_seq", sequenceName = "WEBHOOK_OUTBOX_SEQ", allocationSize = SequenceAllocation.WEBHOOK_OUTBOX)
+    private Long id;
+
+    @Column(name = "webhook_type", nullable = false, length = 50)
+    private String webhookType; // CARD_TRANSACTION
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId; // 웹훅 대상 거래 ID
+
+    @Column(name = "payload", nullable = false, columnDefinition = "CLOB")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner; // 전송 중인 디스패처 식별자
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Builder
+    public WebhookOutbox(String webhookType, Long aggregateId, String payload) {
+        this.webhookType = webhookType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.leaseOwner = null;
+        this.lastError = truncate(error);
+    }
+
+    public void markFailed(String error) {
+        this.status = Status.FAILED;
+        this.leaseOwner = null;
+        this.lastError = truncate(error);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+
+    public enum Status {
+        PENDING,
+        SENT,
+        FAILED
+    }
+}
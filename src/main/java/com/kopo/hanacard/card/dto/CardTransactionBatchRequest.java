@@ -0,0 +1,31 @@
+package com.kopo.hanacard.card.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CardTransactionBatchRequest {
+
+    @NotEmpty(message = "거래 목록은 필수입니다.")
+    private List<Item> transactions;
+
+    /**
+     * 정산 파일의 거래 한 건. 행 단위 검증은 서비스에서 수행하고 결과를 행별로 돌려준다.
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class Item {
+        private Long userId;
+        private String merchantName;
+        private String businessNumber;
+        private Long amount;
+        private String category;
+        private String merchantCategory;
+        private LocalDateTime transactionDate; // 없으면 수신 시각으로 기록
+    }
+}
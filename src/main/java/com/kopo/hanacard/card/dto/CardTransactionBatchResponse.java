@@ -0,0 +1,33 @@
+package com.kopo.hanacard.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CardTransactionBatchResponse {
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private List<RowResult> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowResult {
+        private int index;
+        private boolean success;
+        private Long transactionId;
+        private String errorCode;
+        private String message;
+
+        public static RowResult success(int index, Long transactionId) {
+            return new RowResult(index, true, transactionId, null, null);
+        }
+
+        public static RowResult failure(int index, String errorCode, String message) {
+            return new RowResult(index, false, null, errorCode, message);
+        }
+    }
+}
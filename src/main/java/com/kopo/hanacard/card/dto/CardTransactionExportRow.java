@@ -0,0 +1,48 @@
+package com.kopo.hanacard.card.dto;
+
+import com.kopo.hanacard.card.domain.CardTransaction;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 정산 내보내기 한 줄. CSV 열 순서도 이 필드 순서를 따른다.
+ */
+@Getter
+public class CardTransactionExportRow {
+    private Long id;
+    private LocalDateTime transactionDate;
+    private String cardNumber; // 마스킹된 카드번호
+    private String merchantName;
+    private String businessNumber;
+    private String category;
+    private String merchantCategory;
+    private Long amount;
+    private Long cashbackAmount;
+    private BigDecimal cashbackRate;
+    private String tags;
+    private String description;
+
+    public CardTransactionExportRow(CardTransaction transaction) {
+        this.id = transaction.getId();
+        this.transactionDate = transaction.getTransactionDate();
+        this.cardNumber = transaction.getUserCard().getCardNumberMasked();
+        this.merchantName = transaction.getMerchantName();
+        this.businessNumber = transaction.getBusinessNumber();
+        this.category = transaction.getCategory();
+        this.merchantCategory = transaction.getMerchantCategory();
+        this.amount = transaction.getAmount();
+        this.cashbackAmount = transaction.getCashbackAmount();
+        this.cashbackRate = transaction.getCashbackRate();
+        this.tags = transaction.getTags();
+        this.description = transaction.getDescription();
+    }
+
+    public Object[] csvValues() {
+        return new Object[] {
+                id, transactionDate, cardNumber, merchantName, businessNumber, category,
+                merchantCategory, amount, cashbackAmount, cashbackRate, tags, description
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.kopo.hanacard.card.event;
+
+import com.kopo.hanacard.card.domain.CardBenefit;
+import com.kopo.hanacard.card.domain.CardProduct;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카드 상품과 혜택이 저장·변경·삭제되면 카탈로그 변경 이벤트를 발행한다.
+ * updateProduct, deactivate 처럼 엔티티 메서드로 바꾼 값도 flush 시점에 여기로 들어온다.
+ * 스프링 빈 컨테이너를 통해 생성되므로 빈을 주입받을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CardCatalogChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof CardProduct product) {
+            eventPublisher.publishEvent(new CardCatalogChangedEvent("CardProduct", product.getProductId()));
+        } else if (entity instanceof CardBenefit benefit) {
+            eventPublisher.publishEvent(new CardCatalogChangedEvent("CardBenefit", benefit.getId()));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.kopo.hanacard.card.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CardCatalogChangedEvent {
+
+    private final String entityType; // CardProduct, CardBenefit
+    private final Long entityId;
+}
@@ -3,6 +3,7 @@ package com.kopo.hanacard.card.repository;
 import com.kopo.hanacard.card.domain.CardProduct;
 import com.kopo.hanacard.card.domain.CardBenefit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +14,10 @@ public interface CardBenefitRepository extends JpaRepository<CardBenefit, Long>
     List<CardBenefit> findByCardProductAndBenefitTypeAndIsActive(CardProduct cardProduct, String benefitType, Boolean isActive);
 
     List<CardBenefit> findByCardProductAndIsActiveTrue(CardProduct cardProduct);
+
+    // 카드 카탈로그 스냅샷 생성용
+    @Query("SELECT cb FROM CardBenefit cb JOIN FETCH cb.cardProduct WHERE cb.isActive = true ORDER BY cb.id")
+    List<CardBenefit> findActiveWithProduct();
 }
 
 
@@ -0,0 +1,62 @@
+package com.kopo.hanacard.card.repository;
+
+import com.kopo.hanacard.card.domain.CardConsumptionMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CardConsumptionMonthlyRepository extends JpaRepository<CardConsumptionMonthly, Long> {
+
+    List<CardConsumptionMonthly> findByUserCardIdAndYearMonth(Long userCardId, String yearMonth);
+
+    List<CardConsumptionMonthly> findByUserCardIdInAndYearMonth(Collection<Long> userCardIds, String yearMonth);
+
+    /**
+     * 이미 있는 (카드, 월, 카테고리) 행에 증감분을 더한다. 행이 없으면 0 을 반환한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE card_consumption_monthly SET " +
+            "  total_amount = total_amount + :amount, " +
+            "  total_cashback = total_cashback + :cashback, " +
+            "  eco_amount = eco_amount + :ecoAmount, " +
+            "  eco_cashback = eco_cashback + :ecoCashback, " +
+            "  tx_count = tx_count + :txCount, " +
+            "  updated_at = SYSTIMESTAMP " +
+            "WHERE user_card_id = :userCardId AND year_month = :yearMonth AND category = :category",
+            nativeQuery = true)
+    int addTo(@Param("userCardId") Long userCardId,
+              @Param("yearMonth") String yearMonth,
+              @Param("category") String category,
+              @Param("amount") long amount,
+              @Param("cashback") long cashback,
+              @Param("ecoAmount") long ecoAmount,
+              @Param("ecoCashback") long ecoCashback,
+              @Param("txCount") long txCount);
+
+    /**
+     * 행을 새로 만든다. 다른 트랜잭션이 같은 키를 먼저 만들었으면 ORA-00001 대신 조용히 건너뛰고 0 을 반환한다
+     * (IGNORE_ROW_ON_DUPKEY_INDEX). 예외가 나지 않으므로 거래 저장 트랜잭션이 롤백 전용으로 바뀌지 않는다.
+     * 상대가 아직 커밋하지 않았으면 커밋/롤백될 때까지 기다린 뒤 판정한다.
+     */
+    @Modifying
+    @Query(value = "INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(card_consumption_monthly, uk_card_consumption_monthly) */ " +
+            "INTO card_consumption_monthly " +
+            "  (id, user_card_id, year_month, category, total_amount, total_cashback, eco_amount, eco_cashback, tx_count, created_at, updated_at) " +
+            "VALUES (CARD_CONSUMPTION_MONTHLY_SEQ.NEXTVAL, :userCardId, :yearMonth, :category, " +
+            "        :amount, :cashback, :ecoAmount, :ecoCashback, :txCount, SYSTIMESTAMP, SYSTIMESTAMP)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userCardId") Long userCardId,
+                       @Param("yearMonth") String yearMonth,
+                       @Param("category") String category,
+                       @Param("amount") long amount,
+                       @Param("cashback") long cashback,
+                       @Param("ecoAmount") long ecoAmount,
+                       @Param("ecoCashback") long ecoCashback,
+                       @Param("txCount") long txCount);
+}
@@ -2,13 +2,18 @@ package com.kopo.hanacard.card.repository;
 
 import com.kopo.hanacard.card.domain.CardTransaction;
 import com.kopo.hanacard.card.domain.UserCard;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CardTransactionRepository extends JpaRepository<CardTransaction, Long> {
@@ -16,6 +21,34 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
     @Query("SELECT ct FROM CardTransaction ct JOIN FETCH ct.userCard WHERE ct.userCard = :userCard ORDER BY ct.transactionDate DESC")
     List<CardTransaction> findByUserCardOrderByTransactionDateDesc(@Param("userCard") UserCard userCard);
 
+    // 키셋 페이지 조회: Pageable 은 페이지 크기(+1)로만 사용하고 위치는 커서 조건으로 찾는다
+    @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard = :userCard " +
+           "ORDER BY ct.transactionDate DESC, ct.id DESC")
+    List<CardTransaction> findFirstPageByUserCard(@Param("userCard") UserCard userCard, Pageable pageable);
+
+    @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard = :userCard " +
+           "AND (ct.transactionDate < :cursorDate OR (ct.transactionDate = :cursorDate AND ct.id < :cursorId)) " +
+           "ORDER BY ct.transactionDate DESC, ct.id DESC")
+    List<CardTransaction> findPageByUserCardAfter(@Param("userCard") UserCard userCard,
+                                                  @Param("cursorDate") LocalDateTime cursorDate,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard = :userCard AND ct.category = :category " +
+           "ORDER BY ct.transactionDate DESC, ct.id DESC")
+    List<CardTransaction> findFirstPageByUserCardAndCategory(@Param("userCard") UserCard userCard,
+                                                             @Param("category") String category,
+                                                             Pageable pageable);
+
+    @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard = :userCard AND ct.category = :category " +
+           "AND (ct.transactionDate < :cursorDate OR (ct.transactionDate = :cursorDate AND ct.id < :cursorId)) " +
+           "ORDER BY ct.transactionDate DESC, ct.id DESC")
+    List<CardTransaction> findPageByUserCardAndCategoryAfter(@Param("userCard") UserCard userCard,
+                                                             @Param("category") String category,
+                                                             @Param("cursorDate") LocalDateTime cursorDate,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
     @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard = :userCard AND ct.transactionDate BETWEEN :startDate AND :endDate ORDER BY ct.transactionDate DESC")
     List<CardTransaction> findByUserCardAndTransactionDateBetweenOrderByTransactionDateDesc(
             @Param("userCard") UserCard userCard, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
@@ -33,6 +66,29 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
     @Query("SELECT SUM(ct.cashbackAmount) FROM CardTransaction ct WHERE ct.userCard = :userCard AND ct.transactionDate >= :startDate")
     Long getTotalCashbackForMonth(@Param("userCard") UserCard userCard, @Param("startDate") LocalDateTime startDate);
     
+    // 사용자의 전체 활성 카드 거래를 한 번에 읽어 카드별로 나눌 때 사용
+    @Query("SELECT ct FROM CardTransaction ct JOIN ct.userCard uc " +
+           "WHERE uc.user.id = :userId AND uc.isActive = true AND ct.transactionDate >= :since " +
+           "ORDER BY uc.id, ct.transactionDate DESC, ct.id DESC")
+    List<CardTransaction> findRecentByActiveCardsOfUser(@Param("userId") Long userId,
+                                                        @Param("since") LocalDateTime since);
+
+    // 전체 거래를 목록으로 모으지 않고 커서로 흘려 보낸다. 트랜잭션 안에서 사용하고 반드시 닫아야 한다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT ct FROM CardTransaction ct JOIN ct.userCard uc " +
+           "WHERE uc.user.id = :userId AND uc.isActive = true " +
+           "ORDER BY uc.id, ct.transactionDate DESC, ct.id DESC")
+    Stream<CardTransaction> streamByActiveCardsOfUser(@Param("userId") Long userId);
+    
+    // 정산용 내보내기: 사용자 전체 카드의 기간 거래를 오래된 순으로 흘려 보낸다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT ct FROM CardTransaction ct JOIN FETCH ct.userCard uc " +
+           "WHERE uc.user.id = :userId AND ct.transactionDate >= :from AND ct.transactionDate < :to " +
+           "ORDER BY ct.transactionDate, ct.id")
+    Stream<CardTransaction> streamForExport(@Param("userId") Long userId,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+
     List<CardTransaction> findByUserCard(UserCard userCard);
     
     List<CardTransaction> findByUserCardAndTransactionDateBetween(UserCard userCard, LocalDateTime startDate, LocalDateTime endDate);
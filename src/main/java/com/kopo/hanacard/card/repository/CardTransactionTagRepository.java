@@ -0,0 +1,30 @@
+package com.kopo.hanacard.card.repository;
+
+import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.domain.CardTransactionTag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CardTransactionTagRepository extends JpaRepository<CardTransactionTag, Long> {
+
+    @Query("SELECT ct FROM CardTransactionTag t JOIN t.transaction ct " +
+           "WHERE t.userCardId = :userCardId AND t.tag = :tag " +
+           "ORDER BY t.transactionDate DESC, ct.id DESC")
+    List<CardTransaction> findFirstPage(@Param("userCardId") Long userCardId, @Param("tag") String tag, Pageable pageable);
+
+    @Query("SELECT ct FROM CardTransactionTag t JOIN t.transaction ct " +
+           "WHERE t.userCardId = :userCardId AND t.tag = :tag " +
+           "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND ct.id < :cursorId)) " +
+           "ORDER BY t.transactionDate DESC, ct.id DESC")
+    List<CardTransaction> findPageAfter(@Param("userCardId") Long userCardId, @Param("tag") String tag,
+                                        @Param("cursorDate") LocalDateTime cursorDate,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.kopo.hanacard.card.repository;
+
+import com.kopo.hanacard.card.domain.EcoMerchant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EcoMerchantRepository extends JpaRepository<EcoMerchant, Long> {
+
+    List<EcoMerchant> findByIsActiveTrue();
+
+    // 사전 변경 감지용: 행 수와 마지막 수정 시각
+    @Query("SELECT COUNT(em), MAX(em.updatedAt) FROM EcoMerchant em")
+    List<Object[]> findFingerprint();
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,14 @@ public interface UserCardRepository extends JpaRepository<UserCard, Long> {
     List<UserCard> findByUserIdAndIsActive(@Param("userId") Long userId, @Param("isActive") Boolean isActive);
     
     List<UserCard> findByUserIdAndIsActiveTrue(Long userId);
+
+    @Query("SELECT uc FROM UserCard uc JOIN FETCH uc.user WHERE uc.user.id IN :userIds AND uc.isActive = true ORDER BY uc.id")
+    List<UserCard> findActiveByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 여러 회원의 활성 카드와 카드 상품을 한 번에 조회
+    @Query("SELECT uc FROM UserCard uc JOIN FETCH uc.cardProduct WHERE uc.user.id IN :userIds AND uc.isActive = true " +
+           "ORDER BY uc.user.id, uc.id")
+    List<UserCard> findActiveWithProductByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
 
 
@@ -0,0 +1,50 @@
+package com.kopo.hanacard.card.repository;
+
+import com.kopo.hanacard.card.domain.WebhookOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WebhookOutboxRepository extends JpaRepository<WebhookOutbox, Long> {
+
+    @Query("SELECT o.id FROM WebhookOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findDueIds(@Param("status") WebhookOutbox.Status status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 아직 다른 디스패처가 가져가지 않은 행만 임대한다. 임대 시간이 지나면 다시 전송 대상이 된다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WebhookOutbox o SET o.leaseOwner = :owner, o.nextAttemptAt = :leaseUntil, " +
+           "o.attemptCount = o.attemptCount + 1 " +
+           "WHERE o.id IN :ids AND o.status = :status AND o.nextAttemptAt <= :now")
+    int lease(@Param("ids") Collection<Long> ids, @Param("status") WebhookOutbox.Status status,
+              @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WebhookOutbox o SET o.status = :status, o.sentAt = :sentAt, o.updatedAt = :sentAt, " +
+           "o.leaseOwner = null, o.lastError = null " +
+           "WHERE o.id IN :ids")
+    int updateSent(@Param("ids") Collection<Long> ids, @Param("status") WebhookOutbox.Status status,
+                   @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 보관 기간이 지난 완료 행의 ID. idx_webhook_outbox_done (status, updated_at) 범위 스캔으로 찾는다.
+     */
+    @Query("SELECT o.id FROM WebhookOutbox o WHERE o.status = :status AND o.updatedAt < :before")
+    List<Long> findIdsUpdatedBefore(@Param("status") WebhookOutbox.Status status, @Param("before") LocalDateTime before,
+                                    Pageable pageable);
+
+    // ids 는 Oracle IN 절 제한(1000개) 이하로 나눠서 넘긴다
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM WebhookOutbox o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
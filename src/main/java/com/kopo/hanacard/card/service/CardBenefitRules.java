@@ -0,0 +1,117 @@
+package com.kopo.hanacard.card.service;
+
+import com.kopo.hanacard.card.domain.CardBenefit;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카드 상품 하나의 활성 혜택을 거래 적립 계산용으로 미리 컴파일한 불변 규칙 집합.
+ * 카드 카탈로그 스냅샷을 만들 때 함께 만들며, 거래 생성 경로에서는 DB 조회나 객체 생성 없이 규칙을 고른다.
+ *
+ * 규칙은 혜택의 category 로 색인하고 거래의 category 와 merchantCategory 두 값으로 찾는다.
+ * category 가 전체, ALL, 적립 인 혜택은 모든 거래에 적용한다.
+ * 적용할 수 있는 규칙이 여럿이면 적립액이 가장 큰 규칙 하나만 적용한다.
+ */
+public final class CardBenefitRules {
+
+    public static final CardBenefitRules EMPTY = new CardBenefitRules(Map.of(), new Rule[0]);
+
+    private static final Set<String> WILDCARD_CATEGORIES = Set.of("전체", "ALL", "적립");
+
+    private final Map<String, Rule[]> rulesByCategory;
+    private final Rule[] wildcardRules;
+
+    private CardBenefitRules(Map<String, Rule[]> rulesByCategory, Rule[] wildcardRules) {
+        this.rulesByCategory = rulesByCategory;
+        this.wildcardRules = wildcardRules;
+    }
+
+    public static CardBenefitRules compile(List<CardBenefit> benefits) {
+        Map<String, List<Rule>> byCategory = new HashMap<>();
+        List<Rule> wildcard = new ArrayList<>();
+        for (CardBenefit benefit : benefits) {
+            if (benefit.getCashbackRate() == null || benefit.getCashbackRate().signum() <= 0) {
+                continue;
+            }
+            Rule rule = new Rule(benefit);
+            if (WILDCARD_CATEGORIES.contains(benefit.getCategory())) {
+                wildcard.add(rule);
+            } else {
+                byCategory.computeIfAbsent(benefit.getCategory(), category -> new ArrayList<>()).add(rule);
+            }
+        }
+        if (byCategory.isEmpty() && wildcard.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Rule[]> rulesByCategory = new HashMap<>();
+        byCategory.forEach((category, rules) -> rulesByCategory.put(category, rules.toArray(new Rule[0])));
+        return new CardBenefitRules(Map.copyOf(rulesByCategory), wildcard.toArray(new Rule[0]));
+    }
+
+    /**
+     * 거래에 적용할 규칙. 적립액이 0 보다 큰 규칙이 없으면 null 을 돌려준다.
+     */
+    public Rule findBest(String category, String merchantCategory, long amount) {
+        Rule best = better(null, wildcardRules, amount);
+        if (category != null) {
+            best = better(best, rulesByCategory.get(category), amount);
+        }
+        if (merchantCategory != null && !merchantCategory.equals(category)) {
+            best = better(best, rulesByCategory.get(merchantCategory), amount);
+        }
+        return best;
+    }
+
+    private static Rule better(Rule best, Rule[] candidates, long amount) {
+        if (candidates == null) {
+            return best;
+        }
+        long bestCashback = best != null ? best.cashback(amount) : 0L;
+        for (int i = 0; i < candidates.length; i++) {
+            long cashback = candidates[i].cashback(amount);
+            if (cashback > bestCashback) {
+                best = candidates[i];
+                bestCashback = cashback;
+            }
+        }
+        return best;
+    }
+
+    public static final class Rule {
+        private final String benefitType;
+        private final BigDecimal cashbackRate;
+        private final long rateBasisPoints; // 2.00% -> 200
+        private final long minAmount;
+        private final long maxAmount; // 적립 계산에 반영하는 결제 금액 한도
+
+        private Rule(CardBenefit benefit) {
+            this.benefitType = benefit.getBenefitType();
+            this.cashbackRate = benefit.getCashbackRate();
+            this.rateBasisPoints = benefit.getCashbackRate().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+            this.minAmount = benefit.getMinAmount() != null ? benefit.getMinAmount() : 0L;
+            this.maxAmount = benefit.getMaxAmount() != null ? benefit.getMaxAmount() : Long.MAX_VALUE;
+        }
+
+        public long cashback(long amount) {
+            if (amount < minAmount) {
+                return 0L;
+            }
+            return Math.min(amount, maxAmount) * rateBasisPoints / 10_000L;
+        }
+
+        public String getBenefitType() {
+            return benefitType;
+        }
+
+        public BigDecimal getCashbackRate() {
+            return cashbackRate;
+        }
+    }
+}
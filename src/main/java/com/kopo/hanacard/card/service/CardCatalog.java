@@ -0,0 +1,154 @@
+package com.kopo.hanacard.card.service;
+
+import com.kopo.hanacard.card.domain.CardBenefit;
+import com.kopo.hanacard.card.domain.CardProduct;
+import com.kopo.hanacard.card.event.CardCatalogChangedEvent;
+import com.kopo.hanacard.card.repository.CardBenefitRepository;
+import com.kopo.hanacard.card.repository.CardProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 카드 상품과 혜택의 메모리 카탈로그.
+ * 변경이 연 몇 번뿐인 데이터라 전체를 읽어 불변 스냅샷으로 만들고, 변경이 커밋되면 새 스냅샷을 만들어 통째로 교체한다.
+ * 조회는 volatile 참조 하나만 읽으므로 DB 에 접근하지 않는다. 거래 적립 규칙(CardBenefitRules)도 스냅샷과 함께 만든다.
+ *
+ * 스냅샷의 엔티티는 준영속 상태이므로 값을 바꿔도 DB 에 반영되지 않는다. 변경은 리포지토리로 조회한 엔티티로 한다.
+ */
+@Slf4j
+@Component
+public class CardCatalog {
+
+    private final CardProductRepository cardProductRepository;
+    private final CardBenefitRepository cardBenefitRepository;
+    private final TransactionTemplate refreshTransaction;
+
+    private volatile Snapshot snapshot;
+
+    public CardCatalog(CardProductRepository cardProductRepository,
+                       CardBenefitRepository cardBenefitRepository,
+                       PlatformTransactionManager transactionManager) {
+        this.cardProductRepository = cardProductRepository;
+        this.cardBenefitRepository = cardBenefitRepository;
+        // 호출한 쪽 트랜잭션과 분리해 읽어야 엔티티가 준영속 상태로 남는다
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshTransaction.setReadOnly(true);
+    }
+
+    public List<CardProduct> getActiveProducts() {
+        return current().activeProducts;
+    }
+
+    public List<CardProduct> getActiveProductsByType(String productType) {
+        return current().activeProductsByType.getOrDefault(productType, List.of());
+    }
+
+    // 비활성 상품도 포함
+    public Optional<CardProduct> findProduct(Long productId) {
+        return Optional.ofNullable(current().productsById.get(productId));
+    }
+
+    public List<CardBenefit> getActiveBenefits(Long productId) {
+        return current().activeBenefitsByProductId.getOrDefault(productId, List.of());
+    }
+
+    public CardBenefitRules getBenefitRules(Long productId) {
+        return current().benefitRulesByProductId.getOrDefault(productId, CardBenefitRules.EMPTY);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CardCatalogChangedEvent event) {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 기존 스냅샷을 그대로 쓴다
+            log.error("카드 카탈로그 갱신 실패 - 변경: {} {}", event.getEntityType(), event.getEntityId(), e);
+        }
+    }
+
+    public synchronized void refresh() {
+        Snapshot next = refreshTransaction.execute(status -> load());
+        snapshot = next;
+        log.info("카드 카탈로그 갱신 - 상품: {}, 활성 상품: {}, 활성 혜택 상품: {}",
+                next.productsById.size(), next.activeProducts.size(), next.activeBenefitsByProductId.size());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        List<CardProduct> products = new ArrayList<>(cardProductRepository.findAll());
+        products.sort(Comparator.comparing(CardProduct::getProductId));
+
+        Map<Long, CardProduct> productsById = new HashMap<>();
+        Map<String, List<CardProduct>> activeProductsByType = new HashMap<>();
+        List<CardProduct> activeProducts = new ArrayList<>();
+        for (CardProduct product : products) {
+            productsById.put(product.getProductId(), product);
+            if (Boolean.TRUE.equals(product.getIsActive())) {
+                activeProducts.add(product);
+                activeProductsByType.computeIfAbsent(product.getProductType(), type -> new ArrayList<>()).add(product);
+            }
+        }
+
+        Map<Long, List<CardBenefit>> activeBenefitsByProductId = cardBenefitRepository.findActiveWithProduct().stream()
+                .collect(Collectors.groupingBy(benefit -> benefit.getCardProduct().getProductId()));
+
+        Map<Long, CardBenefitRules> benefitRulesByProductId = new HashMap<>();
+        activeBenefitsByProductId.forEach((productId, benefits) ->
+                benefitRulesByProductId.put(productId, CardBenefitRules.compile(benefits)));
+
+        return new Snapshot(activeProducts, productsById, activeProductsByType, activeBenefitsByProductId,
+                benefitRulesByProductId);
+    }
+
+    private static final class Snapshot {
+        private final List<CardProduct> activeProducts;
+        private final Map<Long, CardProduct> productsById;
+        private final Map<String, List<CardProduct>> activeProductsByType;
+        private final Map<Long, List<CardBenefit>> activeBenefitsByProductId;
+        private final Map<Long, CardBenefitRules> benefitRulesByProductId;
+
+        private Snapshot(List<CardProduct> activeProducts,
+                         Map<Long, CardProduct> productsById,
+                         Map<String, List<CardProduct>> activeProductsByType,
+                         Map<Long, List<CardBenefit>> activeBenefitsByProductId,
+                         Map<Long, CardBenefitRules> benefitRulesByProductId) {
+            this.activeProducts = List.copyOf(activeProducts);
+            this.productsById = Map.copyOf(productsById);
+            this.activeProductsByType = copyOfLists(activeProductsByType);
+            this.activeBenefitsByProductId = copyOfLists(activeBenefitsByProductId);
+            this.benefitRulesByProductId = Map.copyOf(benefitRulesByProductId);
+        }
+
+        private static <K, V> Map<K, List<V>> copyOfLists(Map<K, List<V>> source) {
+            Map<K, List<V>> copy = new HashMap<>();
+            source.forEach((key, values) -> copy.put(key, List.copyOf(values)));
+            return Map.copyOf(copy);
+        }
+    }
+}
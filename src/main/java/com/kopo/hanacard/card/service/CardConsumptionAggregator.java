@@ -0,0 +1,131 @@
+package com.kopo.hanacard.card.service;
+
+import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.repository.CardConsumptionMonthlyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 거래 저장과 같은 트랜잭션에서 월별 소비 집계(card_consumption_monthly)를 갱신한다.
+ * 같은 (카드, 월, 카테고리)에 속한 거래는 먼저 합친 뒤 키마다 UPDATE 한 번으로 반영한다.
+ *
+ * Oracle MERGE 는 원자적 upsert 가 아니어서 같은 새 키에 동시에 들어온 두 거래가 모두 INSERT 로 가면
+ * 한쪽이 유니크 제약 위반으로 실패하고 거래 저장까지 롤백된다. 그래서 UPDATE 를 먼저 하고, 행이 없을 때만
+ * 중복을 건너뛰는 INSERT 를 한 뒤 건너뛰어졌으면(다른 거래가 먼저 만듦) 다시 UPDATE 한다.
+ * 키는 정렬된 순서로 반영해 여러 키를 함께 갱신하는 일괄 등록끼리 서로 반대 순서로 잠가 교착되지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CardConsumptionAggregator {
+
+    private final CardConsumptionMonthlyRepository cardConsumptionMonthlyRepository;
+
+    @Transactional
+    public void record(CardTransaction transaction) {
+        record(List.of(transaction));
+    }
+
+    @Transactional
+    public void record(Collection<CardTransaction> transactions) {
+        Map<Key, Delta> deltas = new TreeMap<>();
+        for (CardTransaction transaction : transactions) {
+            Key key = new Key(transaction.getUserCard().getId(),
+                    YearMonth.from(transaction.getTransactionDate()).toString(),
+                    transaction.getCategory());
+            deltas.computeIfAbsent(key, k -> new Delta()).add(transaction);
+        }
+
+        deltas.forEach(this::accumulate);
+    }
+
+    private void accumulate(Key key, Delta delta) {
+        if (addTo(key, delta) > 0) {
+            return;
+        }
+        int inserted = cardConsumptionMonthlyRepository.insertIfAbsent(
+                key.userCardId, key.yearMonth, key.category,
+                delta.amount, delta.cashback, delta.ecoAmount, delta.ecoCashback, delta.count);
+        if (inserted == 0) {
+            // 동시에 들어온 다른 거래가 행을 먼저 만들고 커밋했다
+            addTo(key, delta);
+        }
+    }
+
+    private int addTo(Key key, Delta delta) {
+        return cardConsumptionMonthlyRepository.addTo(
+                key.userCardId, key.yearMonth, key.category,
+                delta.amount, delta.cashback, delta.ecoAmount, delta.ecoCashback, delta.count);
+    }
+
+    // 친환경 여부는 거래 저장 시 EcoMerchantDictionary 로 판정해 둔 값을 쓴다
+    static boolean isEco(CardTransaction transaction) {
+        return Boolean.TRUE.equals(transaction.getIsEco());
+    }
+
+    private static final class Key implements Comparable<Key> {
+        private final Long userCardId;
+        private final String yearMonth;
+        private final String category;
+
+        private Key(Long userCardId, String yearMonth, String category) {
+            this.userCardId = userCardId;
+            this.yearMonth = yearMonth;
+            this.category = category;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int result = userCardId.compareTo(other.userCardId);
+            if (result != 0) {
+                return result;
+            }
+            result = yearMonth.compareTo(other.yearMonth);
+            return result != 0 ? result : category.compareTo(other.category);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return userCardId.equals(other.userCardId) && yearMonth.equals(other.yearMonth)
+                    && category.equals(other.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userCardId, yearMonth, category);
+        }
+    }
+
+    private static final class Delta {
+        private long amount;
+        private long cashback;
+        private long ecoAmount;
+        private long ecoCashback;
+        private long count;
+
+        private void add(CardTransaction transaction) {
+            long txAmount = transaction.getAmount() != null ? transaction.getAmount() : 0L;
+            long txCashback = transaction.getCashbackAmount() != null ? transaction.getCashbackAmount() : 0L;
+            amount += txAmount;
+            cashback += txCashback;
+            count++;
+            if (isEco(transaction)) {
+                ecoAmount += txAmount;
+                ecoCashback += txCashback;
+            }
+        }
+    }
+}
@@ -2,9 +2,9 @@ package com.kopo.hanacard.card.service;
 
 import com.kopo.hanacard.card.domain.CardProduct;
 import com.kopo.hanacard.card.dto.CardProductResponse;
-import com.kopo.hanacard.card.repository.CardProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -15,17 +15,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CardProductService {
 
-    private final CardProductRepository cardProductRepository;
+    private final CardCatalog cardCatalog;
 
+    // 카탈로그 조회는 DB 를 쓰지 않으므로 트랜잭션을 시작하지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CardProductResponse> getAllActiveCardProducts() {
-        List<CardProduct> products = cardProductRepository.findByIsActiveTrue();
+        List<CardProduct> products = cardCatalog.getActiveProducts();
         return products.stream()
                 .map(CardProductResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CardProductResponse> getCardProductsByType(String productType) {
-        List<CardProduct> products = cardProductRepository.findByProductTypeAndIsActiveTrue(productType);
+        List<CardProduct> products = cardCatalog.getActiveProductsByType(productType);
         return products.stream()
                 .map(CardProductResponse::new)
                 .collect(Collectors.toList());
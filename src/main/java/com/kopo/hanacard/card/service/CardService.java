@@ -6,13 +6,13 @@ import com.kopo.hanacard.card.domain.CardProduct;
 import com.kopo.hanacard.card.domain.CardBenefit;
 import com.kopo.hanacard.card.domain.UserCard;
 import com.kopo.hanacard.card.dto.UserCardResponse;
-import com.kopo.hanacard.card.repository.CardBenefitRepository;
 import com.kopo.hanacard.card.repository.CardProductRepository;
 import com.kopo.hanacard.card.repository.UserCardRepository;
 import com.kopo.hanacard.user.domain.User;
 import com.kopo.hanacard.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -26,11 +26,12 @@ public class CardService {
 
     private final CardProductRepository cardProductRepository;
     private final UserCardRepository userCardRepository;
-    private final CardBenefitRepository cardBenefitRepository;
     private final UserService userService;
+    private final CardCatalog cardCatalog;
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CardProduct> getAllCards() {
-        return cardProductRepository.findByIsActiveTrue();
+        return cardCatalog.getActiveProducts();
     }
 
     public CardProduct getCardById(Long id) {
@@ -86,17 +87,28 @@ public class CardService {
         userCardRepository.save(userCard);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CardBenefit> getCardBenefits(Long cardId) {
-        CardProduct cardProduct = getCardById(cardId);
-        return cardBenefitRepository.findByCardProductAndIsActiveTrue(cardProduct);
+        if (cardCatalog.findProduct(cardId).isEmpty()) {
+            throw new BusinessException(ErrorCode.CARD_NOT_FOUND);
+        }
+        return cardCatalog.getActiveBenefits(cardId);
     }
 
+    /**
+     * 활성 카드 조회 한 번으로 끝낸다. 혜택은 카드 카탈로그에서 찾고,
+     * 사용자 존재 확인은 카드가 없을 때만 한다.
+     */
     public List<CardBenefit> getUserCardBenefits(Long userId) {
-        User user = userService.getUserById(userId);
-        List<UserCard> userCards = userCardRepository.findByUserAndIsActiveTrue(user);
-        
+        // 상품은 프록시의 ID 만 쓰므로 조인하지 않는다
+        List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
+        if (userCards.isEmpty()) {
+            userService.getUserById(userId);
+            return List.of();
+        }
+
         return userCards.stream()
-                .flatMap(userCard -> cardBenefitRepository.findByCardProductAndIsActiveTrue(userCard.getCardProduct()).stream())
+                .flatMap(userCard -> cardCatalog.getActiveBenefits(userCard.getCardProduct().getProductId()).stream())
                 .toList();
     }
 
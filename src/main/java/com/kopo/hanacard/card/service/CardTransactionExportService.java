@@ -0,0 +1,182 @@
+package com.kopo.hanacard.card.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.dto.CardTransactionExportRow;
+import com.kopo.hanacard.card.repository.CardTransactionRepository;
+import com.kopo.hanacard.common.exception.BusinessException;
+import com.kopo.hanacard.common.exception.ErrorCode;
+import com.kopo.hanacard.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 정산용 카드 거래 내보내기.
+ * 읽기 전용 트랜잭션 안에서 전방향 커서로 한 건씩 읽어 바로 쓰고 영속성 컨텍스트에서 분리하므로
+ * 내보내는 건수와 무관하게 메모리 사용이 일정하다.
+ */
+@Slf4j
+@Service
+public class CardTransactionExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "transactionDate", "cardNumber", "merchantName", "businessNumber", "category",
+            "merchantCategory", "amount", "cashbackAmount", "cashbackRate", "tags", "description"
+    };
+
+    // 기간을 지정하지 않았을 때의 시작 시각
+    private static final LocalDateTime EXPORT_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final CardTransactionRepository cardTransactionRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CardTransactionExportService(CardTransactionRepository cardTransactionRepository,
+                                        UserRepository userRepository,
+                                        ObjectMapper objectMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.cardTransactionRepository = cardTransactionRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Getter
+    public enum ExportFormat {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 요청 검증은 응답을 쓰기 전에 끝내고, 실제 조회와 쓰기는 돌려준 본문이 실행될 때 수행한다.
+     * from, to 는 날짜 단위로 양 끝을 포함한다.
+     */
+    public StreamingResponseBody export(Long userId, LocalDate from, LocalDate to, ExportFormat format) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "조회 시작일이 종료일보다 늦습니다.");
+        }
+
+        LocalDateTime start = from != null ? from.atStartOfDay() : EXPORT_START;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : LocalDate.now().plusDays(1).atStartOfDay();
+
+        return out -> {
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<CardTransaction> rows = cardTransactionRepository.streamForExport(userId, start, end)) {
+                        long count = format == ExportFormat.CSV
+                                ? writeCsv(rows.iterator(), out)
+                                : writeNdjson(rows.iterator(), out);
+                        log.info("카드 거래 내보내기 완료 - 사용자ID: {}, 형식: {}, 기간: {} ~ {}, 건수: {}",
+                                userId, format, start, end, count);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private long writeCsv(Iterator<CardTransaction> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvLine(writer, CSV_HEADER);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            writeCsvLine(writer, toExportRow(rows.next()).csvValues());
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<CardTransaction> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            // 루트 값 사이에 줄바꿈만 넣는다
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            while (rows.hasNext()) {
+                generator.writeObject(toExportRow(rows.next()));
+                count++;
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return count;
+    }
+
+    private CardTransactionExportRow toExportRow(CardTransaction transaction) {
+        CardTransactionExportRow row = new CardTransactionExportRow(transaction);
+        entityManager.detach(transaction);
+        return row;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
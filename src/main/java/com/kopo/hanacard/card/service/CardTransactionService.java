@@ -1,29 +1,43 @@
 package com.kopo.hanacard.card.service;
 
+import com.kopo.hanacard.card.domain.CardConsumptionMonthly;
 import com.kopo.hanacard.card.domain.CardTransaction;
 import com.kopo.hanacard.card.domain.UserCard;
 import com.kopo.hanacard.card.dto.CardConsumptionSummaryResponse;
+import com.kopo.hanacard.card.dto.CardTransactionBatchRequest;
+import com.kopo.hanacard.card.dto.CardTransactionBatchResponse;
 import com.kopo.hanacard.card.dto.CardTransactionResponse;
+import com.kopo.hanacard.card.repository.CardConsumptionMonthlyRepository;
 import com.kopo.hanacard.card.repository.CardTransactionRepository;
+import com.kopo.hanacard.card.repository.CardTransactionTagRepository;
 import com.kopo.hanacard.card.repository.UserCardRepository;
+import com.kopo.hanacard.common.dto.CursorPageResponse;
+import com.kopo.hanacard.common.dto.KeysetCursor;
 import com.kopo.hanacard.common.exception.BusinessException;
 import com.kopo.hanacard.common.exception.ErrorCode;
 import com.kopo.hanacard.user.domain.User;
 import com.kopo.hanacard.user.repository.UserRepository;
 import com.kopo.hanacard.user.service.UserService;
 import com.kopo.hanacard.card.event.CardTransactionCreatedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,9 +51,39 @@ public class CardTransactionService {
     private final UserRepository userRepository;
     private final UserService userService;
     private final ApplicationEventPublisher eventPublisher;
-    private final WebhookService webhookService;
+    private final WebhookOutboxService webhookOutboxService;
+    private final CardTransactionTagRepository cardTransactionTagRepository;
+    private final CardTransactionTagIndexer cardTransactionTagIndexer;
+    private final CardConsumptionMonthlyRepository cardConsumptionMonthlyRepository;
+    private final CardConsumptionAggregator cardConsumptionAggregator;
+    private final CardCatalog cardCatalog;
+    private final EcoMerchantDictionary ecoMerchantDictionary;
 
-    public List<CardTransactionResponse> getUserCardTransactions(Long userId) {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${card.transaction.batch.max-size:5000}")
+    private int batchMaxSize;
+
+    @Value("${card.transaction.batch.flush-size:500}")
+    private int batchFlushSize;
+
+    @Value("${card.transaction.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${card.transaction.page.max-size:100}")
+    private int maxPageSize;
+
+    // Oracle IN 절 최대 원소 수
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
+    private static final int RECENT_TRANSACTION_COUNT = 10;
+
+    /**
+     * 주 카드 거래내역을 최신순으로 커서 페이지 조회한다.
+     * cursor 가 없으면 첫 페이지이며, 이력 길이와 관계없이 (user_card_id, transaction_date, id) 인덱스 범위만 읽는다.
+     */
+    public CursorPageResponse<CardTransactionResponse> getUserCardTransactions(Long userId, String cursor, Integer size) {
         List<UserCard> userCards = userCardRepository.findByUserIdAndIsActive(userId, true);
         
         if (userCards.isEmpty()) {
@@ -47,14 +91,52 @@ public class CardTransactionService {
         }
 
         // 첫 번째 활성 카드의 거래내역 조회
-        UserCard primaryCard = userCards.get(0);
-        List<CardTransaction> transactions = cardTransactionRepository.findByUserCardOrderByTransactionDateDesc(primaryCard);
-        
-        return transactions.stream()
+        return getTransactionPage(userCards.get(0), cursor, size);
+    }
+
+    private CursorPageResponse<CardTransactionResponse> getTransactionPage(UserCard userCard, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<CardTransaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = cardTransactionRepository.findFirstPageByUserCard(userCard, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = cardTransactionRepository.findPageByUserCardAfter(userCard, position.getTimestamp(), position.getId(), limit);
+        }
+
+        return toPage(rows, pageSize);
+    }
+
+    private CursorPageResponse<CardTransactionResponse> toPage(List<CardTransaction> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<CardTransaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<CardTransactionResponse> content = page.stream()
                 .map(CardTransactionResponse::new)
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            CardTransaction last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+        return CursorPageResponse.of(content, hasNext, nextCursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
     }
 
+    /**
+     * 이번 달 소비현황. 합계와 카테고리별 금액은 월별 집계 테이블에서 읽고,
+     * 최근 거래는 커서 첫 페이지로 최대 10건만 읽는다.
+     */
     public CardConsumptionSummaryResponse getMonthlyConsumptionSummary(Long userId) {
         log.info("월간 소비현황 조회 시작 - 사용자ID: {}", userId);
         
@@ -73,34 +155,24 @@ public class CardTransactionService {
         UserCard primaryCard = userCards.get(0);
         log.info("주 카드 조회 완료 - 카드ID: {}", primaryCard.getId());
         
-        // 이번 달 첫날부터 현재까지
-        LocalDateTime startOfMonth = YearMonth.now().atDay(1).atStartOfDay();
-        
-        // 이번 달 거래내역 조회
-        List<CardTransaction> monthlyTransactions = cardTransactionRepository
-                .findByUserCardAndTransactionDateBetweenOrderByTransactionDateDesc(
-                        primaryCard, startOfMonth, LocalDateTime.now());
-
-        // 총 소비금액 계산
-        Long totalAmount = monthlyTransactions.stream()
-                .mapToLong(transaction -> transaction.getAmount() != null ? transaction.getAmount() : 0L)
-                .sum();
-
-        // 총 캐시백 계산
-        Long totalCashback = monthlyTransactions.stream()
-                .mapToLong(transaction -> transaction.getCashbackAmount() != null ? transaction.getCashbackAmount() : 0L)
-                .sum();
-
-        // 카테고리별 소비금액 계산
-        Map<String, Long> categoryAmounts = monthlyTransactions.stream()
-                .collect(Collectors.groupingBy(
-                        CardTransaction::getCategory,
-                        Collectors.summingLong(CardTransaction::getAmount)
-                ));
-
-        // 최근 거래내역 (최대 10건)
-        List<CardTransactionResponse> recentTransactions = monthlyTransactions.stream()
-                .limit(10)
+        YearMonth currentMonth = YearMonth.now();
+        List<CardConsumptionMonthly> aggregates = cardConsumptionMonthlyRepository
+                .findByUserCardIdAndYearMonth(primaryCard.getId(), currentMonth.toString());
+
+        long totalAmount = 0;
+        long totalCashback = 0;
+        Map<String, Long> categoryAmounts = new HashMap<>();
+        for (CardConsumptionMonthly aggregate : aggregates) {
+            totalAmount += aggregate.getTotalAmount();
+            totalCashback += aggregate.getTotalCashback();
+            categoryAmounts.merge(aggregate.getCategory(), aggregate.getTotalAmount(), Long::sum);
+        }
+
+        // 최근 거래내역 (이번 달, 최대 10건)
+        LocalDateTime startOfMonth = currentMonth.atDay(1).atStartOfDay();
+        List<CardTransactionResponse> recentTransactions = cardTransactionRepository
+                .findFirstPageByUserCard(primaryCard, PageRequest.of(0, RECENT_TRANSACTION_COUNT)).stream()
+                .filter(transaction -> !transaction.getTransactionDate().isBefore(startOfMonth))
                 .map(CardTransactionResponse::new)
                 .collect(Collectors.toList());
 
@@ -117,7 +189,11 @@ public class CardTransactionService {
     }
 
 
-    public List<CardTransactionResponse> getTransactionsByCategory(Long userId, String category) {
+    /**
+     * 카테고리별 거래내역을 DB 에서 걸러 커서 페이지로 조회한다.
+     */
+    public CursorPageResponse<CardTransactionResponse> getTransactionsByCategory(Long userId, String category,
+                                                                               String cursor, Integer size) {
         List<UserCard> userCards = userCardRepository.findByUserIdAndIsActive(userId, true);
         
         if (userCards.isEmpty()) {
@@ -125,14 +201,24 @@ public class CardTransactionService {
         }
 
         UserCard primaryCard = userCards.get(0);
-        List<CardTransaction> transactions = cardTransactionRepository.findByUserCardOrderByTransactionDateDesc(primaryCard);
-        
-        return transactions.stream()
-                .filter(transaction -> transaction.getCategory().equals(category))
-                .map(CardTransactionResponse::new)
-                .collect(Collectors.toList());
+        int pageSize = resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<CardTransaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = cardTransactionRepository.findFirstPageByUserCardAndCategory(primaryCard, category, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = cardTransactionRepository.findPageByUserCardAndCategoryAfter(
+                    primaryCard, category, position.getTimestamp(), position.getId(), limit);
+        }
+
+        return toPage(rows, pageSize);
     }
 
+    /**
+     * 이번 달 친환경 소비현황. 거래 저장 시 누적된 월별 집계만 읽는다.
+     */
     public CardConsumptionSummaryResponse getEcoConsumptionAnalysis(Long userId) {
         List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
         if (userCards.isEmpty()) {
@@ -140,15 +226,8 @@ public class CardTransactionService {
         }
 
         UserCard userCard = userCards.get(0);
-        YearMonth currentMonth = YearMonth.now();
-        LocalDateTime startOfMonth = currentMonth.atDay(1).atStartOfDay();
-        LocalDateTime endOfMonth = currentMonth.atEndOfMonth().atTime(23, 59, 59);
-
-        List<CardTransaction> transactions = cardTransactionRepository
-                .findByUserCardAndTransactionDateBetween(userCard, startOfMonth, endOfMonth);
-
-        // 친환경 태그들
-        List<String> ecoTags = List.of("친환경", "전기차", "대중교통", "공유킥보드", "리필샵", "유기농", "재활용");
+        List<CardConsumptionMonthly> aggregates = cardConsumptionMonthlyRepository
+                .findByUserCardIdAndYearMonth(userCard.getId(), YearMonth.now().toString());
 
         Map<String, Long> categoryAmounts = new HashMap<>();
         Map<String, Long> ecoCategoryAmounts = new HashMap<>();
@@ -157,31 +236,15 @@ public class CardTransactionService {
         long totalCashback = 0;
         long ecoCashback = 0;
 
-        for (CardTransaction transaction : transactions) {
-            String category = transaction.getCategory();
-            Long amount = transaction.getAmount();
-            Long cashback = transaction.getCashbackAmount();
-
-            totalAmount += amount;
-            totalCashback += cashback;
-
-            categoryAmounts.merge(category, amount, Long::sum);
-
-            // 친환경 태그가 있는지 확인
-            boolean isEco = false;
-            if (transaction.getTags() != null) {
-                for (String tag : ecoTags) {
-                    if (transaction.getTags().contains(tag)) {
-                        isEco = true;
-                        break;
-                    }
-                }
-            }
+        for (CardConsumptionMonthly aggregate : aggregates) {
+            totalAmount += aggregate.getTotalAmount();
+            totalCashback += aggregate.getTotalCashback();
+            categoryAmounts.merge(aggregate.getCategory(), aggregate.getTotalAmount(), Long::sum);
 
-            if (isEco || ecoTags.contains(category)) {
-                ecoAmount += amount;
-                ecoCashback += cashback;
-                ecoCategoryAmounts.merge(category, amount, Long::sum);
+            if (aggregate.getEcoAmount() > 0) {
+                ecoAmount += aggregate.getEcoAmount();
+                ecoCashback += aggregate.getEcoCashback();
+                ecoCategoryAmounts.merge(aggregate.getCategory(), aggregate.getEcoAmount(), Long::sum);
             }
         }
 
@@ -198,37 +261,44 @@ public class CardTransactionService {
                 .build();
     }
 
-    public List<CardTransactionResponse> getTransactionsByTag(Long userId, String tag) {
+    /**
+     * 태그별 거래내역을 태그 색인(card_transaction_tags)으로 커서 페이지 조회한다.
+     * 태그는 정확히 일치하는 것만 찾는다.
+     */
+    public CursorPageResponse<CardTransactionResponse> getTransactionsByTag(Long userId, String tag,
+                                                                          String cursor, Integer size) {
         List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
         if (userCards.isEmpty()) {
             throw new BusinessException(ErrorCode.USER_CARD_NOT_FOUND);
         }
 
-        UserCard userCard = userCards.get(0);
-        List<CardTransaction> transactions = cardTransactionRepository.findByUserCard(userCard);
+        Long userCardId = userCards.get(0).getId();
+        String normalizedTag = tag == null ? "" : tag.trim();
+        int pageSize = resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<CardTransaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = cardTransactionTagRepository.findFirstPage(userCardId, normalizedTag, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = cardTransactionTagRepository.findPageAfter(
+                    userCardId, normalizedTag, position.getTimestamp(), position.getId(), limit);
+        }
 
-        return transactions.stream()
-                .filter(transaction -> transaction.getTags() != null && 
-                        transaction.getTags().contains(tag))
-                .map(CardTransactionResponse::new)
-                .collect(Collectors.toList());
+        return toPage(rows, pageSize);
     }
 
-    public List<CardTransactionResponse> getCardTransactionsByPhone(String phoneNumber) {
+    public CursorPageResponse<CardTransactionResponse> getCardTransactionsByPhone(String phoneNumber, String cursor, Integer size) {
         User user = userService.getUserByPhoneNumber(phoneNumber);
         List<UserCard> userCards = userCardRepository.findByUserAndIsActiveTrue(user);
         
         if (userCards.isEmpty()) {
-            return List.of();
+            return CursorPageResponse.of(List.of(), false, null);
         }
 
         // 첫 번째 활성 카드의 거래내역 조회
-        UserCard primaryCard = userCards.get(0);
-        List<CardTransaction> transactions = cardTransactionRepository.findByUserCardOrderByTransactionDateDesc(primaryCard);
-        
-        return transactions.stream()
-                .map(CardTransactionResponse::new)
-                .collect(Collectors.toList());
+        return getTransactionPage(userCards.get(0), cursor, size);
     }
 
     @Transactional
@@ -243,7 +313,8 @@ public class CardTransactionService {
             
             UserCard primaryCard = userCards.get(0); // 첫 번째 카드를 주 카드로 사용
             
-            // 2. 카드 거래 생성
+            // 2. 카드 거래 생성 (상품 혜택 규칙으로 적립 계산)
+            CardBenefitRules.Rule benefit = findBenefit(primaryCard, category, merchantCategory, amount);
             CardTransaction transaction = CardTransaction.builder()
                     .userCard(primaryCard)
                     .merchantName(merchantName)
@@ -253,33 +324,34 @@ public class CardTransactionService {
                     .merchantCategory(merchantCategory)
                     .transactionDate(LocalDateTime.now())
                     .description(String.format("%s에서 %d원 결제", merchantName, amount))
-                    .cashbackAmount(0L) // 기본값
-                    .cashbackRate(java.math.BigDecimal.ZERO) // 기본값
-                    .tags("") // 기본값
+                    .cashbackAmount(benefit != null ? benefit.cashback(amount) : 0L)
+                    .cashbackRate(benefit != null ? benefit.getCashbackRate() : BigDecimal.ZERO)
+                    .tags(benefit != null ? benefit.getBenefitType() : "")
                     .build();
+            classifyEco(transaction);
             
             // 3. 거래 저장
             CardTransaction savedTransaction = cardTransactionRepository.save(transaction);
+            cardTransactionTagIndexer.index(savedTransaction);
+            cardConsumptionAggregator.record(savedTransaction);
             
-            // 4. 이벤트 발행 (사업자 번호가 있는 경우만)
+            // 4. 이벤트 발행 (캐시 무효화 등)
+            eventPublisher.publishEvent(CardTransactionCreatedEvent.of(
+                savedTransaction.getId(),
+                userId,
+                merchantName,
+                businessNumber,
+                amount,
+                savedTransaction.getTransactionDate(),
+                category,
+                merchantCategory
+            ));
+
+            // 5. 하나그린세상 웹훅은 사업자 번호가 있는 경우만 아웃박스에 기록하고 커밋 이후 WebhookOutboxDispatcher 가 전송
             if (businessNumber != null && !businessNumber.trim().isEmpty()) {
-                CardTransactionCreatedEvent event = CardTransactionCreatedEvent.of(
-                    savedTransaction.getId(),
-                    userId,
-                    merchantName,
-                    businessNumber,
-                    amount,
-                    savedTransaction.getTransactionDate(),
-                    category,
-                    merchantCategory
-                );
-                
-                eventPublisher.publishEvent(event);
-                
-                // 5. 하나그린세상에 웹훅 전송
-                webhookService.sendCardTransactionWebhook(savedTransaction);
+                webhookOutboxService.enqueueCardTransaction(savedTransaction);
                 
-                log.info("카드 거래 생성, 이벤트 발행 및 웹훅 전송 완료 - 거래ID: {}, 사용자ID: {}, 가맹점: {}, 사업자번호: {}",
+                log.info("카드 거래 생성, 이벤트 발행 및 웹훅 적재 완료 - 거래ID: {}, 사용자ID: {}, 가맹점: {}, 사업자번호: {}",
                         savedTransaction.getId(), userId, merchantName, businessNumber);
             } else {
                 log.info("카드 거래 생성 완료 (사업자번호 없음) - 거래ID: {}, 사용자ID: {}, 가맹점: {}",
@@ -293,5 +365,175 @@ public class CardTransactionService {
             throw new BusinessException(ErrorCode.TRANSACTION_CREATE_FAILED);
         }
     }
-}
 
+    /**
+     * 정산 파일 재처리용 대량 거래 생성.
+     * 주 카드는 전체 사용자에 대해 한 번에 조회하고, 저장은 flush-size 단위로 끊어서
+     * Hibernate JDBC 배치(hibernate.jdbc.batch_size)로 내려보낸다.
+     * 검증에 실패한 행은 건너뛰고 행별 결과로 돌려준다.
+     */
+    @Transactional
+    public CardTransactionBatchResponse createCardTransactions(List<CardTransactionBatchRequest.Item> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "거래 목록이 비어 있습니다.");
+        }
+        if (items.size() > batchMaxSize) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    String.format("한 번에 등록할 수 있는 거래는 최대 %d건입니다.", batchMaxSize));
+        }
+
+        // 1. 주 카드 일괄 조회
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (CardTransactionBatchRequest.Item item : items) {
+            if (item != null && item.getUserId() != null) {
+                userIds.add(item.getUserId());
+            }
+        }
+        Map<Long, UserCard> primaryCards = findPrimaryCards(userIds);
+
+        // 2. 행 검증 및 엔티티 생성
+        CardTransactionBatchResponse.RowResult[] results = new CardTransactionBatchResponse.RowResult[items.size()];
+        List<CardTransaction> pending = new ArrayList<>(Math.min(items.size(), batchFlushSize));
+        List<Integer> pendingIndexes = new ArrayList<>(Math.min(items.size(), batchFlushSize));
+        LocalDateTime receivedAt = LocalDateTime.now();
+
+        for (int i = 0; i < items.size(); i++) {
+            CardTransactionBatchRequest.Item item = items.get(i);
+            String invalidReason = validateBatchItem(item);
+            if (invalidReason != null) {
+                results[i] = CardTransactionBatchResponse.RowResult.failure(i, ErrorCode.INVALID_REQUEST.getCode(), invalidReason);
+                continue;
+            }
+
+            UserCard primaryCard = primaryCards.get(item.getUserId());
+            if (primaryCard == null) {
+                results[i] = CardTransactionBatchResponse.RowResult.failure(i, ErrorCode.CARD_NOT_FOUND.getCode(),
+                        ErrorCode.CARD_NOT_FOUND.getMessage());
+                continue;
+            }
+
+            CardBenefitRules.Rule benefit = findBenefit(primaryCard, item.getCategory(), item.getMerchantCategory(), item.getAmount());
+            CardTransaction transaction = CardTransaction.builder()
+                    .userCard(primaryCard)
+                    .merchantName(item.getMerchantName())
+                    .businessNumber(item.getBusinessNumber())
+                    .amount(item.getAmount())
+                    .category(item.getCategory())
+                    .merchantCategory(item.getMerchantCategory())
+                    .transactionDate(item.getTransactionDate() != null ? item.getTransactionDate() : receivedAt)
+                    .description(String.format("%s에서 %d원 결제", item.getMerchantName(), item.getAmount()))
+                    .cashbackAmount(benefit != null ? benefit.cashback(item.getAmount()) : 0L)
+                    .cashbackRate(benefit != null ? benefit.getCashbackRate() : BigDecimal.ZERO)
+                    .tags(benefit != null ? benefit.getBenefitType() : "")
+                    .build();
+            classifyEco(transaction);
+            pending.add(transaction);
+            pendingIndexes.add(i);
+
+            if (pending.size() >= batchFlushSize) {
+                flushBatch(pending, pendingIndexes, results);
+            }
+        }
+        flushBatch(pending, pendingIndexes, results);
+
+        int successCount = 0;
+        for (CardTransactionBatchResponse.RowResult result : results) {
+            if (result.isSuccess()) {
+                successCount++;
+            }
+        }
+
+        log.info("카드 거래 일괄 생성 완료 - 요청: {}건, 성공: {}건, 실패: {}건",
+                items.size(), successCount, items.size() - successCount);
+
+        return new CardTransactionBatchResponse(items.size(), successCount, items.size() - successCount, List.of(results));
+    }
+
+    // 카드 상품의 컴파일된 혜택 규칙에서 고르므로 DB 를 조회하지 않는다. 상품 ID 는 프록시에서 읽는다
+    private CardBenefitRules.Rule findBenefit(UserCard userCard, String category, String merchantCategory, long amount) {
+        return cardCatalog.getBenefitRules(userCard.getCardProduct().getProductId())
+                .findBest(category, merchantCategory, amount);
+    }
+
+    private void classifyEco(CardTransaction transaction) {
+        String ecoTag = ecoMerchantDictionary.classify(transaction.getBusinessNumber(), transaction.getMerchantCategory());
+        if (ecoTag != null) {
+            transaction.markEco(ecoTag);
+        }
+    }
+
+    private Map<Long, UserCard> findPrimaryCards(Set<Long> userIds) {
+        Map<Long, UserCard> primaryCards = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_LIMIT) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_LIMIT, ids.size()));
+            // id 오름차순으로 정렬되어 있으므로 사용자별 첫 번째 카드를 주 카드로 사용
+            for (UserCard userCard : userCardRepository.findActiveByUserIdIn(chunk)) {
+                primaryCards.putIfAbsent(userCard.getUser().getId(), userCard);
+            }
+        }
+        return primaryCards;
+    }
+
+    private String validateBatchItem(CardTransactionBatchRequest.Item item) {
+        if (item == null) {
+            return "거래 정보가 비어 있습니다.";
+        }
+        if (item.getUserId() == null) {
+            return "사용자 ID는 필수입니다.";
+        }
+        if (item.getAmount() == null || item.getAmount() <= 0) {
+            return "거래 금액은 0보다 커야 합니다.";
+        }
+        if (item.getMerchantName() == null || item.getMerchantName().isBlank()) {
+            return "가맹점명은 필수입니다.";
+        }
+        if (item.getCategory() == null || item.getCategory().isBlank()) {
+            return "카테고리는 필수입니다.";
+        }
+        return null;
+    }
+
+    private void flushBatch(List<CardTransaction> pending, List<Integer> pendingIndexes,
+                            CardTransactionBatchResponse.RowResult[] results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        cardTransactionRepository.saveAll(pending);
+        cardTransactionTagIndexer.index(pending);
+        cardConsumptionAggregator.record(pending);
+        entityManager.flush();
+
+        for (int i = 0; i < pending.size(); i++) {
+            CardTransaction saved = pending.get(i);
+            results[pendingIndexes.get(i)] = CardTransactionBatchResponse.RowResult.success(pendingIndexes.get(i), saved.getId());
+            publishTransactionCreated(saved, saved.getUserCard().getUser().getId());
+        }
+        // 웹훅 아웃박스 행도 clear 전에 내려보낸다
+        entityManager.flush();
+
+        // 영속성 컨텍스트가 커지지 않도록 배치 단위로 비운다
+        entityManager.clear();
+        pending.clear();
+        pendingIndexes.clear();
+    }
+
+    private void publishTransactionCreated(CardTransaction transaction, Long userId) {
+        String businessNumber = transaction.getBusinessNumber();
+        eventPublisher.publishEvent(CardTransactionCreatedEvent.of(
+                transaction.getId(),
+                userId,
+                transaction.getMerchantName(),
+                businessNumber,
+                transaction.getAmount(),
+                transaction.getTransactionDate(),
+                transaction.getCategory(),
+                transaction.getMerchantCategory()
+        ));
+
+        if (businessNumber != null && !businessNumber.trim().isEmpty()) {
+            webhookOutboxService.enqueueCardTransaction(transaction);
+        }
+    }
+}
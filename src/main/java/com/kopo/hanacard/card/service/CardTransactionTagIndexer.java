@@ -0,0 +1,65 @@
+package com.kopo.hanacard.card.service;
+
+import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.domain.CardTransactionTag;
+import com.kopo.hanacard.card.repository.CardTransactionTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 거래 저장과 같은 트랜잭션에서 태그 색인(card_transaction_tags)을 함께 기록한다.
+ * 거래의 tags 값을 바꾸는 경로가 생기면 이 색인도 함께 갱신해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CardTransactionTagIndexer {
+
+    private final CardTransactionTagRepository cardTransactionTagRepository;
+
+    @Transactional
+    public void index(CardTransaction transaction) {
+        index(List.of(transaction));
+    }
+
+    @Transactional
+    public void index(Collection<CardTransaction> transactions) {
+        List<CardTransactionTag> rows = new ArrayList<>();
+        for (CardTransaction transaction : transactions) {
+            for (String tag : parseTags(transaction.getTags())) {
+                rows.add(CardTransactionTag.builder()
+                        .transaction(transaction)
+                        .userCardId(transaction.getUserCard().getId())
+                        .tag(tag)
+                        .transactionDate(transaction.getTransactionDate())
+                        .build());
+            }
+        }
+        if (!rows.isEmpty()) {
+            cardTransactionTagRepository.saveAll(rows);
+        }
+    }
+
+    /**
+     * 쉼표로 구분된 태그 문자열을 정규화한다. 공백을 걷어내고 빈 값, 중복, 길이 초과 태그는 버린다.
+     */
+    public static Set<String> parseTags(String tags) {
+        Set<String> parsed = new LinkedHashSet<>();
+        if (tags == null || tags.isBlank()) {
+            return parsed;
+        }
+        for (String raw : tags.split(",")) {
+            String tag = raw.trim();
+            if (!tag.isEmpty() && tag.length() <= CardTransactionTag.MAX_TAG_LENGTH) {
+                parsed.add(tag);
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,130 @@
+package com.kopo.hanacard.card.service;
+
+import com.kopo.hanacard.card.domain.EcoMerchant;
+import com.kopo.hanacard.card.repository.EcoMerchantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 친환경 가맹점 분류 사전(eco_merchants)의 메모리 색인.
+ * 사업자 번호와 업종 코드별 해시 색인 두 개를 불변 스냅샷으로 들고 있다가 통째로 교체한다.
+ * 주기적으로 행 수와 마지막 수정 시각을 확인해 바뀐 경우에만 다시 읽으며, 즉시 반영이 필요하면 reload 를 호출한다.
+ */
+@Slf4j
+@Component
+public class EcoMerchantDictionary {
+
+    private final EcoMerchantRepository ecoMerchantRepository;
+    private final TransactionTemplate readTransaction;
+
+    private volatile Index index;
+
+    public EcoMerchantDictionary(EcoMerchantRepository ecoMerchantRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.ecoMerchantRepository = ecoMerchantRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 거래의 친환경 태그. 사업자 번호 항목이 업종 코드 항목보다 우선하며, 해당하지 않으면 null.
+     */
+    public String classify(String businessNumber, String merchantCategory) {
+        Index current = current();
+        if (businessNumber != null && !current.tagByBusinessNumber.isEmpty()) {
+            String tag = current.tagByBusinessNumber.get(EcoMerchant.normalizeBusinessNumber(businessNumber));
+            if (tag != null) {
+                return tag;
+            }
+        }
+        return merchantCategory != null ? current.tagByMerchantCategory.get(merchantCategory) : null;
+    }
+
+    @Scheduled(fixedDelayString = "${card.eco-merchant.reload-check-interval-ms:60000}")
+    public void reloadIfChanged() {
+        try {
+            Index current = index;
+            String fingerprint = readTransaction.execute(status -> fingerprint());
+            if (current == null || !Objects.equals(current.fingerprint, fingerprint)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("친환경 가맹점 사전 변경 확인 실패", e);
+        }
+    }
+
+    public synchronized Map<String, Object> reload() {
+        Index next = readTransaction.execute(status -> load());
+        index = next;
+        log.info("친환경 가맹점 사전 적재 - 사업자번호: {}건, 업종: {}건",
+                next.tagByBusinessNumber.size(), next.tagByMerchantCategory.size());
+        return stats();
+    }
+
+    public Map<String, Object> stats() {
+        Index current = current();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("businessNumbers", current.tagByBusinessNumber.size());
+        stats.put("merchantCategories", current.tagByMerchantCategory.size());
+        stats.put("fingerprint", current.fingerprint);
+        return stats;
+    }
+
+    private Index current() {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    reload();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private Index load() {
+        // 지문을 먼저 읽어, 적재 도중 바뀐 내용은 다음 확인에서 다시 읽도록 한다
+        String fingerprint = fingerprint();
+        Map<String, String> tagByBusinessNumber = new HashMap<>();
+        Map<String, String> tagByMerchantCategory = new HashMap<>();
+        for (EcoMerchant merchant : ecoMerchantRepository.findByIsActiveTrue()) {
+            if (EcoMerchant.MATCH_BUSINESS_NUMBER.equals(merchant.getMatchType())) {
+                tagByBusinessNumber.put(merchant.getMatchKey(), merchant.getEcoTag());
+            } else if (EcoMerchant.MATCH_MERCHANT_CATEGORY.equals(merchant.getMatchType())) {
+                tagByMerchantCategory.put(merchant.getMatchKey(), merchant.getEcoTag());
+            }
+        }
+        return new Index(Map.copyOf(tagByBusinessNumber), Map.copyOf(tagByMerchantCategory), fingerprint);
+    }
+
+    private String fingerprint() {
+        List<Object[]> rows = ecoMerchantRepository.findFingerprint();
+        Object[] row = rows.isEmpty() ? new Object[] {0L, null} : rows.get(0);
+        return row[0] + "|" + row[1];
+    }
+
+    private static final class Index {
+        private final Map<String, String> tagByBusinessNumber;
+        private final Map<String, String> tagByMerchantCategory;
+        private final String fingerprint;
+
+        private Index(Map<String, String> tagByBusinessNumber, Map<String, String> tagByMerchantCategory,
+                      String fingerprint) {
+            this.tagByBusinessNumber = tagByBusinessNumber;
+            this.tagByMerchantCategory = tagByMerchantCategory;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
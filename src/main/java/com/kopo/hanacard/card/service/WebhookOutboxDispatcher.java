@@ -0,0 +1,100 @@
+package com.kopo.hanacard.card.service;
+
+import com.kopo.hanacard.card.domain.WebhookOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 웹훅 아웃박스를 주기적으로 비운다.
+ * 전송은 DB 트랜잭션 밖에서 이뤄지므로 하나그린세상 응답 지연이 커넥션을 붙잡지 않는다.
+ * 전송 완료(SENT)/전송 포기(FAILED) 행은 보관 기간이 지나면 따로 지워 테이블이 끝없이 커지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookOutboxDispatcher {
+
+    private final WebhookOutboxService webhookOutboxService;
+    private final WebhookService webhookService;
+
+    @Value("${integration.webhook-outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${integration.webhook-outbox.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${integration.webhook-outbox.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    @Value("${integration.webhook-outbox.sent-retention-days:7}")
+    private long sentRetentionDays;
+
+    @Value("${integration.webhook-outbox.failed-retention-days:30}")
+    private long failedRetentionDays;
+
+    @Scheduled(fixedDelayString = "${integration.webhook-outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        try {
+            for (int round = 0; round < maxBatchesPerPoll; round++) {
+                List<WebhookOutbox> batch = webhookOutboxService.leaseDueBatch(batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                deliver(batch);
+
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("웹훅 아웃박스 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${integration.webhook-outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        try {
+            int sent = purge(WebhookOutbox.Status.SENT, sentRetentionDays);
+            int failed = purge(WebhookOutbox.Status.FAILED, failedRetentionDays);
+            if (sent > 0 || failed > 0) {
+                log.info("웹훅 아웃박스 정리 완료 - 전송 완료: {}건, 전송 포기: {}건", sent, failed);
+            }
+        } catch (Exception e) {
+            log.error("웹훅 아웃박스 정리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    // 배치마다 별도 트랜잭션으로 지워 언두와 잠금을 작게 유지한다
+    private int purge(WebhookOutbox.Status status, long retentionDays) {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        while (true) {
+            int deleted = webhookOutboxService.purgeBatch(status, before, purgeBatchSize);
+            total += deleted;
+            if (deleted < purgeBatchSize) {
+                return total;
+            }
+        }
+    }
+
+    private void deliver(List<WebhookOutbox> batch) {
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        for (WebhookOutbox outbox : batch) {
+            try {
+                webhookService.deliver(outbox);
+                sentIds.add(outbox.getId());
+            } catch (Exception e) {
+                webhookOutboxService.markFailed(outbox.getId(), e.getMessage());
+            }
+        }
+        webhookOutboxService.markSent(sentIds);
+    }
+}
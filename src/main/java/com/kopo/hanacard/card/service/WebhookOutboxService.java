@@ -0,0 +1,125 @@
+package com.kopo.hanacard.card.service;
+
+import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.domain.WebhookOutbox;
+import com.kopo.hanacard.card.repository.WebhookOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WebhookOutboxService {
+
+    // Oracle IN 절 제한
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final WebhookOutboxRepository webhookOutboxRepository;
+    private final WebhookService webhookService;
+
+    @Value("${integration.webhook-outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${integration.webhook-outbox.initial-backoff-ms:2000}")
+    private long initialBackoffMs;
+
+    @Value("${integration.webhook-outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    @Value("${integration.webhook-outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    /**
+     * 거래 저장과 같은 트랜잭션에서 웹훅을 기록한다. 거래가 롤백되면 웹훅도 남지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public WebhookOutbox enqueueCardTransaction(CardTransaction transaction) {
+        WebhookOutbox outbox = WebhookOutbox.builder()
+                .webhookType(WebhookService.CARD_TRANSACTION_WEBHOOK)
+                .aggregateId(transaction.getId())
+                .payload(webhookService.buildCardTransactionPayload(transaction))
+                .build();
+        return webhookOutboxRepository.save(outbox);
+    }
+
+    /**
+     * 전송할 차례가 된 웹훅을 최대 batchSize 건 임대한다.
+     * 임대 중에는 next_attempt_at 이 임대 만료 시각으로 밀려 있어 다른 디스패처가 가져가지 않고,
+     * 전송 도중 서버가 내려가도 임대가 끝나면 다시 전송된다.
+     */
+    @Transactional
+    public List<WebhookOutbox> leaseDueBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = webhookOutboxRepository.findDueIds(WebhookOutbox.Status.PENDING, now, PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+
+        String owner = UUID.randomUUID().toString();
+        webhookOutboxRepository.lease(dueIds, WebhookOutbox.Status.PENDING, owner, now, now.plus(Duration.ofMillis(leaseMs)));
+
+        // lease_owner 에는 인덱스가 없으므로 PK 로 다시 읽고, 그 사이 다른 디스패처가 가져간 행은 뺀다
+        return webhookOutboxRepository.findAllById(dueIds).stream()
+                .filter(outbox -> owner.equals(outbox.getLeaseOwner()))
+                .sorted(Comparator.comparing(WebhookOutbox::getId))
+                .toList();
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        webhookOutboxRepository.updateSent(ids, WebhookOutbox.Status.SENT, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void markFailed(Long id, String error) {
+        webhookOutboxRepository.findById(id).ifPresent(outbox -> {
+            if (outbox.getAttemptCount() >= maxAttempts) {
+                outbox.markFailed(error);
+                log.error("하나그린세상 웹훅 전송 포기 - 아웃박스ID: {}, 거래ID: {}, 시도: {}회, 에러: {}",
+                        outbox.getId(), outbox.getAggregateId(), outbox.getAttemptCount(), error);
+            } else {
+                LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMs(outbox.getAttemptCount())));
+                outbox.scheduleRetry(nextAttemptAt, error);
+                log.warn("하나그린세상 웹훅 전송 실패, 재시도 예정 - 아웃박스ID: {}, 시도: {}회, 다음 시도: {}, 에러: {}",
+                        outbox.getId(), outbox.getAttemptCount(), nextAttemptAt, error);
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료/전송 포기 행을 최대 batchSize 건 지운다. 한 번에 지우는 양을 제한해 트랜잭션을 짧게 유지한다.
+     *
+     * @return 지운 건수
+     */
+    @Transactional
+    public int purgeBatch(WebhookOutbox.Status status, LocalDateTime before, int batchSize) {
+        List<Long> ids = webhookOutboxRepository.findIdsUpdatedBefore(status, before, PageRequest.of(0, batchSize));
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            deleted += webhookOutboxRepository.deleteByIdIn(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        return deleted;
+    }
+
+    // 지수 백오프: initial, initial*2, initial*4 ... (최대 maxBackoffMs)
+    private long backoffMs(int attemptCount) {
+        int exponent = Math.max(0, Math.min(attemptCount - 1, 20));
+        return Math.min(initialBackoffMs << exponent, maxBackoffMs);
+    }
+}
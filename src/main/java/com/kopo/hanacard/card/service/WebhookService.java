@@ -1,6 +1,9 @@
 package com.kopo.hanacard.card.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.domain.WebhookOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,49 +19,56 @@ import java.util.Map;
 @Slf4j
 public class WebhookService {
 
+    public static final String CARD_TRANSACTION_WEBHOOK = "CARD_TRANSACTION";
+
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
 
     @Value("${integration.hanagreenworld.url}")
     private String greenWorldBaseUrl;
 
-    public void sendCardTransactionWebhook(CardTransaction transaction) {
-        try {
-            String webhookUrl = greenWorldBaseUrl + "/api/integration/webhook/card-transaction";
+    public String buildCardTransactionPayload(CardTransaction transaction) {
+        Map<String, Object> webhookData = new HashMap<>();
+        webhookData.put("transactionId", transaction.getId());
+        webhookData.put("userId", transaction.getUserCard().getUser().getId());
+        webhookData.put("merchantName", transaction.getMerchantName());
+        webhookData.put("businessNumber", transaction.getBusinessNumber());
+        webhookData.put("amount", transaction.getAmount());
+        webhookData.put("category", transaction.getCategory());
+        webhookData.put("merchantCategory", transaction.getMerchantCategory());
+        webhookData.put("transactionDate", transaction.getTransactionDate().toString());
 
-            Map<String, Object> webhookData = new HashMap<>();
-            webhookData.put("transactionId", transaction.getId());
-            webhookData.put("userId", transaction.getUserCard().getUser().getId());
-            webhookData.put("merchantName", transaction.getMerchantName());
-            webhookData.put("businessNumber", transaction.getBusinessNumber());
-            webhookData.put("amount", transaction.getAmount());
-            webhookData.put("category", transaction.getCategory());
-            webhookData.put("merchantCategory", transaction.getMerchantCategory());
-            webhookData.put("transactionDate", transaction.getTransactionDate().toString());
+        try {
+            return objectMapper.writeValueAsString(webhookData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("웹훅 데이터 직렬화 실패 - 거래ID: " + transaction.getId(), e);
+        }
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("X-Source", "HANACARD");
-            headers.set("X-Webhook-Type", "CARD_TRANSACTION");
+    /**
+     * 아웃박스에 기록된 웹훅 한 건을 전송한다. 2xx 가 아니면 예외를 던져 재시도 대상이 되게 한다.
+     * 재시도 시에도 X-Webhook-Id 가 같으므로 수신 측에서 중복을 걸러낼 수 있다.
+     */
+    public void deliver(WebhookOutbox outbox) {
+        String webhookUrl = greenWorldBaseUrl + "/api/integration/webhook/card-transaction";
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(webhookData, headers);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Source", "HANACARD");
+        headers.set("X-Webhook-Type", outbox.getWebhookType());
+        headers.set("X-Webhook-Id", String.valueOf(outbox.getId()));
 
-            log.info("웹훅 전송 요청 - URL: {}, 데이터: {}", webhookUrl, webhookData);
+        HttpEntity<String> entity = new HttpEntity<>(outbox.getPayload(), headers);
 
-            ResponseEntity<Map> response = restTemplate.exchange(
-                webhookUrl, HttpMethod.POST, entity, Map.class);
+        log.debug("웹훅 전송 요청 - URL: {}, 아웃박스ID: {}, 시도: {}", webhookUrl, outbox.getId(), outbox.getAttemptCount());
 
-            if (response.getStatusCode() == HttpStatus.OK) {
-                log.info("하나그린세상 웹훅 전송 성공 - 거래ID: {}, 응답: {}",
-                        transaction.getId(), response.getBody());
-            } else {
-                log.warn("⚠하나그린세상 웹훅 전송 실패 - 거래ID: {}, 상태코드: {}",
-                        transaction.getId(), response.getStatusCode());
-            }
+        ResponseEntity<String> response = restTemplate.exchange(
+            webhookUrl, HttpMethod.POST, entity, String.class);
 
-        } catch (Exception e) {
-            log.error("하나그린세상 웹훅 전송 실패 - 거래ID: {}, 에러: {}",
-                    transaction.getId(), e.getMessage(), e);
-            // 웹훅 실패는 전체 트랜잭션을 롤백하지 않음
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException("하나그린세상 웹훅 응답 오류 - 상태코드: " + response.getStatusCode());
         }
+
+        log.info("하나그린세상 웹훅 전송 성공 - 거래ID: {}, 아웃박스ID: {}", outbox.getAggregateId(), outbox.getId());
     }
 }
@@ -0,0 +1,191 @@
+package com.kopo.hanacard.common.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한(LRU)과 만료 시간(TTL)을 함께 두는 프로세스 내 캐시.
+ *
+ * 조회 중에 같은 키가 무효화되면 그 조회 결과는 저장하지 않는다. 무효화 직전의 DB 상태를 읽은 값이
+ * 무효화 이후에 캐시에 들어가 오래 남는 것을 막기 위해서다. 다른 키의 무효화는 조회 결과 저장에 영향을 주지 않는다.
+ *
+ * 키별 마지막 무효화 순번(묘비)은 maxEntries 개까지만 두고, 넘치면 한꺼번에 비운 뒤 그 시점 이전에 시작한 조회만 버린다.
+ */
+public class NearCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // 무효화가 일어날 때마다 증가한다. 조회 시작 시점의 값이 그 조회의 epoch 이다
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    // 키별 마지막 무효화 epoch (entries 잠금으로 보호)
+    private final Map<K, Long> invalidatedAt = new HashMap<>();
+
+    // 이 값보다 앞선 epoch 의 조회는 키와 상관없이 저장하지 않는다 (invalidateAll, 묘비 정리)
+    private long epochFloor;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public NearCache(String name, int maxEntries, long ttlMillis) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > NearCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        return get(key, loader, value -> true);
+    }
+
+    /**
+     * 캐시에 있으면 돌려주고, 없으면 loader 로 읽는다. cacheable 을 만족하는 값만 저장한다.
+     */
+    public V get(K key, Supplier<V> loader, Predicate<V> cacheable) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long epoch = currentEpoch();
+        V value = loader.get();
+        if (value != null && cacheable.test(value)) {
+            putIfCurrent(key, value, epoch);
+        }
+        return value;
+    }
+
+    public V getIfPresent(K key) {
+        V cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    public long currentEpoch() {
+        return invalidationEpoch.get();
+    }
+
+    /**
+     * epoch 이후 이 키가 무효화되지 않았을 때만 저장한다.
+     * loader 없이 직접 값을 만드는 호출자는 DB 를 읽기 전에 currentEpoch() 를 받아 두며, 여러 키에 같은 epoch 를 써도 된다.
+     */
+    public boolean putIfCurrent(K key, V value, long epoch) {
+        synchronized (entries) {
+            if (epoch < epochFloor) {
+                return false;
+            }
+            Long invalidated = invalidatedAt.get(key);
+            if (invalidated != null && invalidated > epoch) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            return true;
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            long epoch = invalidationEpoch.incrementAndGet();
+            if (invalidatedAt.size() >= maxEntries && !invalidatedAt.containsKey(key)) {
+                // 묘비를 비워도 이 시점 이전에 시작한 조회만 버리면 안전하다
+                invalidatedAt.clear();
+                epochFloor = epoch;
+            } else {
+                invalidatedAt.put(key, epoch);
+            }
+            if (entries.remove(key) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            epochFloor = invalidationEpoch.incrementAndGet();
+            invalidatedAt.clear();
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        int size;
+        synchronized (entries) {
+            purgeExpired();
+            size = entries.size();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("size", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", hitCount + missCount > 0 ? (double) hitCount / (hitCount + missCount) : 0.0);
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+
+    private V lookup(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt - System.nanoTime() <= 0) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt - now <= 0) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.kopo.hanacard.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스프링 기본 스케줄러는 스레드가 하나뿐이라, 웹훅 전송(HTTP 대기)이나 새벽 대사처럼 오래 걸리는 작업이
+ * 1초 주기의 하나머니 적립 저널 반영을 몇 분씩 밀어낼 수 있다. 예약 작업마다 스레드가 돌아가도록 풀을 잡는다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:5}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
@@ -1,10 +1,23 @@
 package com.kopo.hanacard.common.config;
 
+import com.kopo.hanacard.common.http.OutboundHttpSettings;
+import com.kopo.hanacard.common.http.PooledHttpClient;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -18,10 +31,61 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
+    @Bean(destroyMethod = "close")
+    public PooledHttpClient outboundHttpClient(
+            @Value("${integration.hanagreenworld.url}") String greenWorldBaseUrl,
+            @Value("${integration.http.max-total:50}") int maxTotal,
+            @Value("${integration.http.default-max-per-route:10}") int defaultMaxPerRoute,
+            @Value("${integration.http.greenworld-max-per-route:20}") int greenWorldMaxPerRoute,
+            @Value("${integration.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${integration.http.response-timeout-ms:5000}") long responseTimeoutMs,
+            @Value("${integration.http.connection-request-timeout-ms:1000}") long connectionRequestTimeoutMs,
+            @Value("${integration.http.idle-evict-ms:30000}") long idleEvictMs,
+            @Value("${integration.http.time-to-live-ms:300000}") long timeToLiveMs) {
+
+        return new PooledHttpClient(OutboundHttpSettings.builder()
+                .maxTotal(maxTotal)
+                .defaultMaxPerRoute(defaultMaxPerRoute)
+                .routeLimits(Map.of(greenWorldBaseUrl, greenWorldMaxPerRoute))
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .connectionRequestTimeout(Duration.ofMillis(connectionRequestTimeoutMs))
+                .idleEvictTimeout(Duration.ofMillis(idleEvictMs))
+                .timeToLive(Duration.ofMillis(timeToLiveMs))
+                .build());
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(PooledHttpClient outboundHttpClient) {
+        return outboundHttpClient.restTemplate();
     }
-}
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider greenWorldConnectionProvider(
+            @Value("${integration.greenworld-sync.max-connections:20}") int maxConnections,
+            @Value("${integration.greenworld-sync.pending-acquire-timeout-ms:1000}") long pendingAcquireTimeoutMs,
+            @Value("${integration.http.idle-evict-ms:30000}") long maxIdleMs) {
+        return ConnectionProvider.builder("greenworld-sync")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleMs))
+                .build();
+    }
+
+    @Bean
+    public WebClient greenWorldWebClient(
+            ConnectionProvider greenWorldConnectionProvider,
+            @Value("${integration.hanagreenworld.url}") String greenWorldBaseUrl,
+            @Value("${integration.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${integration.http.response-timeout-ms:5000}") long responseTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(greenWorldConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
 
+        return WebClient.builder()
+                .baseUrl(greenWorldBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+}
@@ -1,18 +1,30 @@
 package com.kopo.hanacard.common.controller;
 
 import com.kopo.hanacard.common.dto.ApiResponse;
+import com.kopo.hanacard.common.http.PooledHttpClient;
+import com.kopo.hanacard.hanamoney.service.GreenWorldSyncPipeline;
+import com.kopo.hanacard.hanamoney.service.HanamoneyEarnAccumulator;
+import com.kopo.hanacard.integration.service.IntegrationReadCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/health")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final PooledHttpClient outboundHttpClient;
+    private final GreenWorldSyncPipeline greenWorldSyncPipeline;
+    private final IntegrationReadCache integrationReadCache;
+    private final HanamoneyEarnAccumulator hanamoneyEarnAccumulator;
+
     @GetMapping
     public ApiResponse<Map<String, Object>> healthCheck() {
         Map<String, Object> health = new HashMap<>();
@@ -23,17 +35,24 @@ public class HealthController {
         
         return ApiResponse.success("서버가 정상적으로 동작 중입니다.", health);
     }
-}
-
-
-
-
-
-
-
-
-
 
+    @GetMapping("/outbound-http")
+    public ApiResponse<Map<String, Object>> outboundHttpMetrics() {
+        return ApiResponse.success(outboundHttpClient.metrics());
+    }
 
+    @GetMapping("/greenworld-sync")
+    public ApiResponse<Map<String, Object>> greenWorldSyncMetrics() {
+        return ApiResponse.success(greenWorldSyncPipeline.metrics());
+    }
 
+    @GetMapping("/integration-cache")
+    public ApiResponse<List<Map<String, Object>>> integrationCacheStats() {
+        return ApiResponse.success(integrationReadCache.stats());
+    }
 
+    @GetMapping("/hanamoney-earn-accumulator")
+    public ApiResponse<Map<String, Object>> hanamoneyEarnAccumulatorStats() {
+        return ApiResponse.success(hanamoneyEarnAccumulator.stats());
+    }
+}
@@ -0,0 +1,29 @@
+package com.kopo.hanacard.common.domain;
+
+/**
+ * 엔티티별 시퀀스 할당 크기.
+ * 한 번의 시퀀스 조회로 allocationSize 개의 ID를 메모리에서 나눠 쓰므로 insert 마다 시퀀스를 왕복하지 않는다.
+ * 값을 바꾸면 DB 시퀀스의 INCREMENT BY 도 같은 값으로 맞춰야 한다 (db/migration/001_pooled_sequence_allocation.sql).
+ */
+public final class SequenceAllocation {
+
+    // 쓰기 부하가 큰 원장성 테이블
+    public static final int CARD_TRANSACTIONS = 50;
+    public static final int HANAMONEY_TRANSACTIONS = 50;
+    public static final int WEBHOOK_OUTBOX = 50;
+    public static final int CARD_TRANSACTION_TAGS = 50;
+    public static final int HANAMONEY_EARN_JOURNAL = 50;
+
+    // 가입/발급 시점에만 insert 되는 테이블 (잔액 체크포인트는 멤버십당 한 행)
+    public static final int USER_CARDS = 10;
+    public static final int HANAMONEY_MEMBERSHIPS = 10;
+    public static final int HANAMONEY_BALANCE_CHECKPOINTS = 10;
+
+    // 거의 변하지 않는 카탈로그 테이블
+    public static final int CARD_PRODUCTS = 5;
+    public static final int CARD_BENEFITS = 5;
+    public static final int ECO_MERCHANTS = 5;
+
+    private SequenceAllocation() {
+    }
+}
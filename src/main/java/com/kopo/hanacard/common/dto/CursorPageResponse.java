@@ -0,0 +1,22 @@
+package com.kopo.hanacard.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답. 다음 페이지는 nextCursor 를 그대로 cursor 파라미터로 넘겨 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return new CursorPageResponse<>(content, content.size(), hasNext, hasNext ? nextCursor : null);
+    }
+}
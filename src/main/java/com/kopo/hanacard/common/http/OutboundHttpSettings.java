@@ -0,0 +1,41 @@
+package com.kopo.hanacard.common.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 외부 연동용 HTTP 커넥션 풀 설정.
+ * routeLimits 는 목적지 base URL 별 최대 커넥션 수로, 지정하지 않은 목적지는 defaultMaxPerRoute 를 따른다.
+ */
+@Getter
+@Builder
+public class OutboundHttpSettings {
+
+    @Builder.Default
+    private final int maxTotal = 50;
+
+    @Builder.Default
+    private final int defaultMaxPerRoute = 10;
+
+    @Builder.Default
+    private final Map<String, Integer> routeLimits = Map.of();
+
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(2);
+
+    @Builder.Default
+    private final Duration responseTimeout = Duration.ofSeconds(5);
+
+    // 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+    @Builder.Default
+    private final Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    @Builder.Default
+    private final Duration idleEvictTimeout = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final Duration timeToLive = Duration.ofMinutes(5);
+}
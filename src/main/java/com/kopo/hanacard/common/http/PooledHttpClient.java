@@ -0,0 +1,147 @@
+package com.kopo.hanacard.common.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 풀과 타임아웃이 적용된 외부 연동용 HTTP 클라이언트.
+ * 요청 수와 새로 연 커넥션 수를 함께 세어 keep-alive 재사용률을 확인할 수 있다.
+ */
+@Slf4j
+public class PooledHttpClient implements AutoCloseable {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final Map<String, HttpRoute> routes = new LinkedHashMap<>();
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+
+    public PooledHttpClient(OutboundHttpSettings settings) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(settings.getConnectTimeout().toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(settings.getResponseTimeout().toMillis()))
+                .setTimeToLive(TimeValue.ofMilliseconds(settings.getTimeToLive().toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxTotal())
+                .setMaxConnPerRoute(settings.getDefaultMaxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .setConnectionFactory(new CountingConnectionFactory())
+                .build();
+
+        settings.getRouteLimits().forEach((baseUrl, limit) -> {
+            HttpRoute route = toRoute(baseUrl);
+            connectionManager.setMaxPerRoute(route, limit);
+            routes.put(baseUrl, route);
+        });
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(settings.getConnectionRequestTimeout().toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(settings.getResponseTimeout().toMillis()))
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .addRequestInterceptorFirst((request, entity, context) -> requestCount.increment())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.getIdleEvictTimeout().toMillis()))
+                .build();
+
+        log.info("외부 연동 HTTP 커넥션 풀 생성 - 전체: {}, 목적지별 기본: {}, 목적지별 지정: {}, 연결 타임아웃: {}ms, 응답 타임아웃: {}ms",
+                settings.getMaxTotal(), settings.getDefaultMaxPerRoute(), settings.getRouteLimits(),
+                settings.getConnectTimeout().toMillis(), settings.getResponseTimeout().toMillis());
+    }
+
+    public RestTemplate restTemplate() {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getConnectionsCreated() {
+        return connectionsCreated.sum();
+    }
+
+    public Map<String, Object> metrics() {
+        PoolStats total = connectionManager.getTotalStats();
+        long requests = requestCount.sum();
+        long created = connectionsCreated.sum();
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("requests", requests);
+        metrics.put("connectionsCreated", created);
+        metrics.put("connectionsReused", Math.max(0, requests - created));
+        metrics.put("reuseRatio", requests > 0 ? (double) Math.max(0, requests - created) / requests : 0.0);
+        metrics.put("leased", total.getLeased());
+        metrics.put("available", total.getAvailable());
+        metrics.put("pending", total.getPending());
+        metrics.put("max", total.getMax());
+
+        Map<String, Object> routeMetrics = new LinkedHashMap<>();
+        routes.forEach((baseUrl, route) -> {
+            PoolStats stats = connectionManager.getStats(route);
+            routeMetrics.put(baseUrl, Map.of(
+                    "leased", stats.getLeased(),
+                    "available", stats.getAvailable(),
+                    "pending", stats.getPending(),
+                    "max", stats.getMax()
+            ));
+        });
+        metrics.put("routes", routeMetrics);
+        return metrics;
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private static HttpRoute toRoute(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+
+    /**
+     * 실제 소켓 연결이 만들어질 때마다 호출되므로 재사용되지 않은 커넥션 수를 셀 수 있다.
+     */
+    private class CountingConnectionFactory implements HttpConnectionFactory<ManagedHttpClientConnection> {
+
+        private final ManagedHttpClientConnectionFactory delegate = ManagedHttpClientConnectionFactory.INSTANCE;
+
+        @Override
+        public ManagedHttpClientConnection createConnection(Socket socket) throws IOException {
+            connectionsCreated.increment();
+            return delegate.createConnection(socket);
+        }
+    }
+}
@@ -10,8 +10,13 @@ import com.kopo.hanacard.card.domain.CardBenefit;
 import com.kopo.hanacard.card.repository.CardBenefitRepository;
 import com.kopo.hanacard.card.domain.CardTransaction;
 import com.kopo.hanacard.card.repository.CardTransactionRepository;
+import com.kopo.hanacard.card.service.CardConsumptionAggregator;
+import com.kopo.hanacard.card.service.CardTransactionTagIndexer;
+import com.kopo.hanacard.card.service.EcoMerchantDictionary;
 import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyTransaction;
 import com.kopo.hanacard.hanamoney.repository.HanamoneyMembershipRepository;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyTransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -36,7 +41,11 @@ public class CustomerCardDataInitializer implements CommandLineRunner {
     private final UserCardRepository userCardRepository;
     private final CardBenefitRepository cardBenefitRepository;
     private final CardTransactionRepository cardTransactionRepository;
+    private final CardTransactionTagIndexer cardTransactionTagIndexer;
+    private final CardConsumptionAggregator cardConsumptionAggregator;
+    private final EcoMerchantDictionary ecoMerchantDictionary;
     private final HanamoneyMembershipRepository hanamoneyMembershipRepository;
+    private final HanamoneyTransactionRepository hanamoneyTransactionRepository;
 
     @Override
     public void run(String... args) throws Exception {
@@ -329,7 +338,15 @@ public class CustomerCardDataInitializer implements CommandLineRunner {
                         .build()
                 );
 
-                cardTransactionRepository.saveAll(transactions);
+                transactions.forEach(transaction -> {
+                    String ecoTag = ecoMerchantDictionary.classify(transaction.getBusinessNumber(), transaction.getMerchantCategory());
+                    if (ecoTag != null) {
+                        transaction.markEco(ecoTag);
+                    }
+                });
+                List<CardTransaction> saved = cardTransactionRepository.saveAll(transactions);
+                cardTransactionTagIndexer.index(saved);
+                cardConsumptionAggregator.record(saved);
             }
         }
     }
@@ -348,6 +365,14 @@ public class CustomerCardDataInitializer implements CommandLineRunner {
                     .build();
             
             hanamoneyMembershipRepository.save(membership);
+            // 초기 잔액도 원장에 남겨 잔액 대사 시 원장만으로 잔액이 재계산되게 한다
+            hanamoneyTransactionRepository.save(HanamoneyTransaction.builder()
+                    .membership(membership)
+                    .transactionType(HanamoneyTransaction.TransactionType.EARN)
+                    .amount(membership.getBalance())
+                    .balanceAfter(membership.getBalance())
+                    .description("초기 적립")
+                    .build());
             log.info("하나머니 멤버십 생성 완료 - 사용자ID: {}, 잔액: {}", user.getId(), membership.getBalance());
         } else {
             log.info("하나머니 멤버십이 이미 존재합니다 - 사용자ID: {}", user.getId());
@@ -1,8 +1,8 @@
 package com.kopo.hanacard.hanamoney.controller;
 
 import com.kopo.hanacard.common.dto.ApiResponse;
+import com.kopo.hanacard.common.dto.CursorPageResponse;
 import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
-import com.kopo.hanacard.hanamoney.domain.HanamoneyTransaction;
 import com.kopo.hanacard.hanamoney.dto.HanamoneyMembershipResponse;
 import com.kopo.hanacard.hanamoney.dto.HanamoneyTransactionRequest;
 import com.kopo.hanacard.hanamoney.dto.HanamoneyTransactionResponse;
@@ -14,8 +14,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Tag(name = "하나머니 멤버십 관리", description = "하나머니 통합 멤버십 서비스 관련 API")
 @RestController
@@ -36,14 +34,14 @@ public class HanamoneyController {
     @GetMapping("/memberships/user/{userId}")
     public ApiResponse<HanamoneyMembershipResponse> getHanamoneyMembershipByUserId(@PathVariable Long userId) {
         HanamoneyMembership membership = hanamoneyService.getHanamoneyMembershipByUserId(userId);
-        return ApiResponse.success(new HanamoneyMembershipResponse(membership));
+        return ApiResponse.success(toResponse(membership));
     }
 
     @Operation(summary = "하나머니 멤버십 ID로 조회", description = "멤버십 ID로 하나머니 멤버십을 조회합니다.")
     @GetMapping("/memberships/{membershipId}")
     public ApiResponse<HanamoneyMembershipResponse> getHanamoneyMembershipById(@PathVariable Long membershipId) {
         HanamoneyMembership membership = hanamoneyService.getHanamoneyMembershipById(membershipId);
-        return ApiResponse.success(new HanamoneyMembershipResponse(membership));
+        return ApiResponse.success(toResponse(membership));
     }
 
     @Operation(summary = "하나머니 적립", description = "금융거래를 통해 하나머니를 적립합니다.")
@@ -54,7 +52,7 @@ public class HanamoneyController {
                 request.getAmount(),
                 request.getDescription()
         );
-        return ApiResponse.success("하나머니가 성공적으로 적립되었습니다.", new HanamoneyMembershipResponse(membership));
+        return ApiResponse.success("하나머니가 성공적으로 적립되었습니다.", toResponse(membership));
     }
 
     @Operation(summary = "하나머니 사용", description = "하나머니를 사용합니다 (결제, ATM 출금 등).")
@@ -99,39 +97,35 @@ public class HanamoneyController {
         return ApiResponse.success("이체가 성공적으로 처리되었습니다.", new HanamoneyMembershipResponse(membership));
     }
 
-    @Operation(summary = "거래 내역 조회", description = "하나머니 거래 내역을 조회합니다.")
+    @Operation(summary = "거래 내역 조회",
+            description = "하나머니 거래 내역을 최신순으로 조회합니다. type 으로 거래 유형을, startDate/endDate 로 기간을 거를 수 있으며 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping("/transactions/user/{userId}")
-    public ApiResponse<List<HanamoneyTransactionResponse>> getTransactionHistory(@PathVariable Long userId,
-                                                                                @RequestParam(required = false) LocalDateTime startDate,
-                                                                                @RequestParam(required = false) LocalDateTime endDate) {
-        List<HanamoneyTransaction> transactions;
-        
-        if (startDate != null && endDate != null) {
-            transactions = hanamoneyService.getTransactionHistoryByDateRange(userId, startDate, endDate);
-        } else {
-            // 기본적으로 최근 30일
-            LocalDateTime defaultStartDate = LocalDateTime.now().minusDays(30);
-            LocalDateTime defaultEndDate = LocalDateTime.now();
-            transactions = hanamoneyService.getTransactionHistoryByDateRange(userId, defaultStartDate, defaultEndDate);
-        }
-        
-        List<HanamoneyTransactionResponse> responses = transactions.stream()
-                .map(HanamoneyTransactionResponse::new)
-                .collect(Collectors.toList());
-        return ApiResponse.success(responses);
+    public ApiResponse<CursorPageResponse<HanamoneyTransactionResponse>> getTransactionHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<HanamoneyTransactionResponse> transactions =
+                hanamoneyService.getTransactionHistory(userId, type, startDate, endDate, cursor, size);
+        return ApiResponse.success(transactions);
     }
 
-    @Operation(summary = "거래 타입별 내역 조회", description = "거래 타입별로 거래 내역을 조회합니다.")
+    @Operation(summary = "거래 타입별 내역 조회", description = "거래 타입별로 거래 내역을 최신순으로 조회합니다.")
     @GetMapping("/transactions/user/{userId}/type/{transactionType}")
-    public ApiResponse<List<HanamoneyTransactionResponse>> getTransactionHistoryByType(@PathVariable Long userId,
-                                                                                       @PathVariable String transactionType) {
-        HanamoneyTransaction.TransactionType type = HanamoneyTransaction.TransactionType.valueOf(transactionType.toUpperCase());
-        List<HanamoneyTransaction> transactions = hanamoneyService.getTransactionHistoryByType(userId, type);
-        
-        List<HanamoneyTransactionResponse> responses = transactions.stream()
-                .map(HanamoneyTransactionResponse::new)
-                .collect(Collectors.toList());
-        return ApiResponse.success(responses);
+    public ApiResponse<CursorPageResponse<HanamoneyTransactionResponse>> getTransactionHistoryByType(
+            @PathVariable Long userId,
+            @PathVariable String transactionType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<HanamoneyTransactionResponse> transactions =
+                hanamoneyService.getTransactionHistory(userId, transactionType, null, null, cursor, size);
+        return ApiResponse.success(transactions);
     }
-}
 
+    // 적립 모아두기 모드의 미반영 적립액을 함께 내려준다
+    private HanamoneyMembershipResponse toResponse(HanamoneyMembership membership) {
+        return new HanamoneyMembershipResponse(membership, hanamoneyService.getPendingEarnAmount(membership.getId()));
+    }
+}
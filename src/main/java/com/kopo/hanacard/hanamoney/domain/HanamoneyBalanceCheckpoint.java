@@ -0,0 +1,52 @@
+package com.kopo.hanacard.hanamoney.domain;
+
+import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멤버십별 마지막으로 검증된 잔액.
+ * lastTransactionId 이하의 하나머니 거래 transactionCount 건을 반영한 잔액이 balance 이며,
+ * 재계산은 이 지점 이후의 거래만 더한다. 멤버십당 한 행을 두고 대사할 때마다 앞으로 옮긴다.
+ */
+@Entity
+@Table(name = "hanamoney_balance_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HanamoneyBalanceCheckpoint extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hanamoney_balance_checkpoints_seq")
+    @SequenceGenerator(name = "hanamoney_balance_checkpoints_seq", sequenceName = "HANAMONEY_CHECKPOINTS_SEQ", allocationSize = SequenceAllocation.HANAMONEY_BALANCE_CHECKPOINTS)
+    private Long id;
+
+    @Column(name = "membership_id", nullable = false, unique = true)
+    private Long membershipId;
+
+    @Column(name = "balance", nullable = false)
+    private Long balance;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private Long lastTransactionId;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+
+    @Builder
+    public HanamoneyBalanceCheckpoint(Long membershipId, Long balance, Long lastTransactionId, Long transactionCount) {
+        this.membershipId = membershipId;
+        this.balance = balance;
+        this.lastTransactionId = lastTransactionId;
+        this.transactionCount = transactionCount;
+    }
+
+    public void advance(Long balance, Long lastTransactionId, Long transactionCount) {
+        this.balance = balance;
+        this.lastTransactionId = lastTransactionId;
+        this.transactionCount = transactionCount;
+    }
+}
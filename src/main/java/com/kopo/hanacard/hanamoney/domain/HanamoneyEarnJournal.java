@@ -0,0 +1,55 @@
+package com.kopo.hanacard.hanamoney.domain;
+
+import com.kopo.hanacard.common.domain.SequenceAllocation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적립 모아두기 모드에서 아직 잔액에 반영되지 않은 적립 한 건.
+ * 멤버십 행을 잠그지 않고 INSERT 만 하므로 같은 멤버십에 적립이 몰려도 서로 기다리지 않는다.
+ * HanamoneyEarnAccumulator 가 반영하면서 하나머니 거래 내역으로 옮기고 삭제한다.
+ */
+@Entity
+@Table(name = "hanamoney_earn_journal",
+       indexes = @Index(name = "idx_hm_earn_journal_member", columnList = "membership_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HanamoneyEarnJournal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hanamoney_earn_journal_seq")
+    @SequenceGenerator(name = "hanamoney_earn_journal_seq", sequenceName = "HANAMONEY_EARN_JOURNAL_SEQ", allocationSize = SequenceAllocation.HANAMONEY_EARN_JOURNAL)
+    private Long id;
+
+    // 멤버십 엔티티를 참조하지 않고 ID 만 기록한다
+    @Column(name = "membership_id", nullable = false)
+    private Long membershipId;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public HanamoneyEarnJournal(Long membershipId, Long amount, String description) {
+        this.membershipId = membershipId;
+        this.amount = amount;
+        this.description = description;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
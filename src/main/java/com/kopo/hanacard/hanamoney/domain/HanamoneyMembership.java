@@ -1,6 +1,7 @@
 package com.kopo.hanacard.hanamoney.domain;
 
 import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
 import com.kopo.hanacard.user.domain.User;
 import jakarta.persistence.*;
 import org.hibernate.annotations.GenericGenerator;
@@ -18,7 +19,7 @@ public class HanamoneyMembership extends DateTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hanamoney_memberships_seq")
-    @SequenceGenerator(name = "hanamoney_memberships_seq", sequenceName = "HANAMONEY_MEMBERSHIPS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "hanamoney_memberships_seq", sequenceName = "HANAMONEY_MEMBERSHIPS_SEQ", allocationSize = SequenceAllocation.HANAMONEY_MEMBERSHIPS)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -93,7 +94,7 @@ public class HanamoneyMembership extends DateTimeEntity {
         this.spend(amount);
     }
 
-    // 멤버십 레벨 업데이트
+    // 멤버십 레벨 업데이트 (HanamoneyMembershipRepository.credit 의 CASE 식과 같은 기준)
     private void updateMembershipLevel() {
         if (this.totalEarned >= 1000000) {
             this.membershipLevel = "GOLD";
@@ -1,6 +1,7 @@
 package com.kopo.hanacard.hanamoney.domain;
 
 import com.kopo.hanacard.common.domain.DateTimeEntity;
+import com.kopo.hanacard.common.domain.SequenceAllocation;
 import jakarta.persistence.*;
 import org.hibernate.annotations.GenericGenerator;
 import lombok.AccessLevel;
@@ -9,14 +10,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "hanamoney_transactions")
+@Table(name = "hanamoney_transactions", indexes = {
+        @Index(name = "idx_hm_tx_member_id", columnList = "membership_id, id"),
+        @Index(name = "idx_hm_tx_member_date_id", columnList = "membership_id, created_at, id"),
+        @Index(name = "idx_hm_tx_member_type_date", columnList = "membership_id, transaction_type, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HanamoneyTransaction extends DateTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hanamoney_transactions_seq")
-    @SequenceGenerator(name = "hanamoney_transactions_seq", sequenceName = "HANAMONEY_TRANSACTIONS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "hanamoney_transactions_seq", sequenceName = "HANAMONEY_TRANSACTIONS_SEQ", allocationSize = SequenceAllocation.HANAMONEY_TRANSACTIONS)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,28 +51,42 @@ public class HanamoneyTransaction extends DateTimeEntity {
         this.description = description;
     }
 
+    /**
+     * credit 은 잔액을 늘리는 거래인지 여부로, 원장 재계산(HanamoneyBalanceReplayer)의 부호를 정한다.
+     */
     public enum TransactionType {
-        EARN("적립"),
-        SPEND("사용"),
-        TRANSFER_IN("이체입금"),
-        TRANSFER_OUT("이체출금"),
-        ATM_WITHDRAWAL("ATM출금"),
-        PARTNER_EXCHANGE("제휴사교환"),
-        CASHBACK("캐시백"),
-        REFUND("환불"),
-        PAYMENT("결제"),
-        CARD_PAYMENT("카드결제"),
-        POINT_CONVERSION("포인트전환");
+        EARN("적립", true),
+        SPEND("사용", false),
+        TRANSFER_IN("이체입금", true),
+        TRANSFER_OUT("이체출금", false),
+        ATM_WITHDRAWAL("ATM출금", false),
+        PARTNER_EXCHANGE("제휴사교환", false),
+        CASHBACK("캐시백", true),
+        REFUND("환불", true),
+        PAYMENT("결제", false),
+        CARD_PAYMENT("카드결제", false),
+        POINT_CONVERSION("포인트전환", true);
 
         private final String description;
+        private final boolean credit;
 
-        TransactionType(String description) {
+        TransactionType(String description, boolean credit) {
             this.description = description;
+            this.credit = credit;
         }
 
         public String getDescription() {
             return description;
         }
+
+        public boolean isCredit() {
+            return credit;
+        }
+
+        // 잔액 변화량 (차감 거래는 음수)
+        public long signedAmount(long amount) {
+            return credit ? amount : -amount;
+        }
     }
 
     // Getter method for DTOs
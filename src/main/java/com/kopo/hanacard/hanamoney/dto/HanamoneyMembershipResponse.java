@@ -13,18 +13,24 @@ public class HanamoneyMembershipResponse {
     private Long balance;
     private Long totalEarned;
     private Long totalSpent;
+    private Long pendingEarnAmount; // 적립 모아두기 모드에서 아직 잔액에 반영되지 않은 적립액 (이 서버 기록분)
     private String membershipLevel;
     private Boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
 
     public HanamoneyMembershipResponse(HanamoneyMembership membership) {
+        this(membership, 0L);
+    }
+
+    public HanamoneyMembershipResponse(HanamoneyMembership membership, long pendingEarnAmount) {
         this.id = membership.getId();
         this.userId = membership.getUserId();
         this.membershipId = membership.getMembershipId();
         this.balance = membership.getBalance();
         this.totalEarned = membership.getTotalEarned();
         this.totalSpent = membership.getTotalSpent();
+        this.pendingEarnAmount = pendingEarnAmount;
         this.membershipLevel = membership.getMembershipLevel();
         this.isActive = membership.getIsActive();
         this.createdAt = membership.getCreatedAt();
@@ -0,0 +1,29 @@
+package com.kopo.hanacard.hanamoney.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class HanamoneyReconciliationReport {
+    private long checkedCount;
+    private long matchedCount;
+    private long mismatchedCount;
+    private long failedCount;
+    private long fullReplayCount;        // 체크포인트 없이 처음부터 다시 계산한 멤버십 수
+    private long replayedTransactions;   // 재계산에 읽은 거래 건수
+    private long checkpointsWritten;
+    private int parallelism;
+    private long elapsedMs;
+    private List<Mismatch> mismatches;   // 최대 max-reported-mismatches 건
+
+    @Getter
+    @AllArgsConstructor
+    public static class Mismatch {
+        private Long membershipId;
+        private long storedBalance;
+        private long replayedBalance;
+    }
+}
@@ -0,0 +1,18 @@
+package com.kopo.hanacard.hanamoney.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 하나머니 잔액 변경 이벤트. delta 는 적립이면 양수, 사용이면 음수다.
+ * greenWorldSync 가 true 인 변경(적립/사용)만 하나그린세상에 동기화하며, 이때만 phoneNumber 가 채워진다.
+ */
+@Getter
+@AllArgsConstructor
+public class HanamoneyBalanceChangedEvent {
+    private final Long userId;
+    private final String phoneNumber;
+    private final long delta;
+    private final String description;
+    private final boolean greenWorldSync;
+}
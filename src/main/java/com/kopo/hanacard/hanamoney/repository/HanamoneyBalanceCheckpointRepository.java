@@ -0,0 +1,13 @@
+package com.kopo.hanacard.hanamoney.repository;
+
+import com.kopo.hanacard.hanamoney.domain.HanamoneyBalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface HanamoneyBalanceCheckpointRepository extends JpaRepository<HanamoneyBalanceCheckpoint, Long> {
+
+    Optional<HanamoneyBalanceCheckpoint> findByMembershipId(Long membershipId);
+}
@@ -0,0 +1,25 @@
+package com.kopo.hanacard.hanamoney.repository;
+
+import com.kopo.hanacard.hanamoney.domain.HanamoneyEarnJournal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface HanamoneyEarnJournalRepository extends JpaRepository<HanamoneyEarnJournal, Long> {
+
+    @Query("SELECT DISTINCT j.membershipId FROM HanamoneyEarnJournal j")
+    List<Long> findPendingMembershipIds();
+
+    List<HanamoneyEarnJournal> findByMembershipIdOrderByIdAsc(Long membershipId);
+
+    // ids 는 Oracle IN 절 제한(1000개) 이하로 나눠서 넘긴다
+    @Modifying
+    @Query("DELETE FROM HanamoneyEarnJournal j WHERE j.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
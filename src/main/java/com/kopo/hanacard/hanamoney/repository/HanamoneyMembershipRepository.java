@@ -1,9 +1,17 @@
 package com.kopo.hanacard.hanamoney.repository;
 
 import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,7 +19,47 @@ public interface HanamoneyMembershipRepository extends JpaRepository<HanamoneyMe
     
     Optional<HanamoneyMembership> findByUser_Id(Long userId);
     
+    @Query("SELECT m FROM HanamoneyMembership m JOIN FETCH m.user WHERE m.user.id = :userId")
+    Optional<HanamoneyMembership> findWithUserByUserId(@Param("userId") Long userId);
+    
     Optional<HanamoneyMembership> findByMembershipId(String membershipId);
     
     boolean existsByUser_Id(Long userId);
+
+    @Query("SELECT m.id FROM HanamoneyMembership m WHERE m.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    // 전체 멤버십을 ID 순으로 나눠 읽는다 (대사 작업)
+    @Query("SELECT m.id FROM HanamoneyMembership m WHERE m.id > :afterId ORDER BY m.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * SELECT ... FOR UPDATE 로 멤버십 행을 잠근다. 여러 행을 잠글 때는 반드시 id 오름차순으로 호출한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM HanamoneyMembership m WHERE m.id = :id")
+    Optional<HanamoneyMembership> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 잔액 적립을 DB 에서 원자적으로 수행한다. 등급은 갱신된 누적 적립액 기준으로 함께 계산한다
+     * (HanamoneyMembership 의 등급 기준과 동일하게 유지할 것).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE HanamoneyMembership m SET m.balance = m.balance + :amount, " +
+           "m.totalEarned = m.totalEarned + :amount, " +
+           "m.membershipLevel = CASE WHEN m.totalEarned + :amount >= 1000000 THEN 'GOLD' " +
+           "WHEN m.totalEarned + :amount >= 500000 THEN 'SILVER' ELSE 'BASIC' END, " +
+           "m.updatedAt = :now " +
+           "WHERE m.id = :id")
+    int credit(@Param("id") Long id, @Param("amount") long amount, @Param("now") LocalDateTime now);
+
+    /**
+     * 잔액이 충분할 때만 차감한다. 0 이 반환되면 잔액 부족(또는 멤버십 없음)이다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE HanamoneyMembership m SET m.balance = m.balance - :amount, " +
+           "m.totalSpent = m.totalSpent + :amount, " +
+           "m.updatedAt = :now " +
+           "WHERE m.id = :id AND m.balance >= :amount")
+    int debitIfSufficient(@Param("id") Long id, @Param("amount") long amount, @Param("now") LocalDateTime now);
 }
@@ -2,7 +2,10 @@ package com.kopo.hanacard.hanamoney.repository;
 
 import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
 import com.kopo.hanacard.hanamoney.domain.HanamoneyTransaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -13,11 +16,56 @@ public interface HanamoneyTransactionRepository extends JpaRepository<HanamoneyT
     
     List<HanamoneyTransaction> findByMembership(HanamoneyMembership membership);
     
-    List<HanamoneyTransaction> findByMembershipAndCreatedAtBetween(HanamoneyMembership membership, 
-                                                                  LocalDateTime startDate, 
-                                                                  LocalDateTime endDate);
-    
-    List<HanamoneyTransaction> findByMembershipAndTransactionType(HanamoneyMembership membership, 
-                                                                 HanamoneyTransaction.TransactionType transactionType);
-}
+    // 키셋 페이지 조회: Pageable 은 페이지 크기(+1)로만 사용하고 위치는 커서 조건으로 찾는다
+    @Query("SELECT t FROM HanamoneyTransaction t WHERE t.membership.id = :membershipId " +
+           "AND t.createdAt BETWEEN :startDate AND :endDate " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<HanamoneyTransaction> findFirstPage(@Param("membershipId") Long membershipId,
+                                             @Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate,
+                                             Pageable pageable);
+
+    @Query("SELECT t FROM HanamoneyTransaction t WHERE t.membership.id = :membershipId " +
+           "AND t.createdAt >= :startDate " +
+           "AND (t.createdAt < :cursorDate OR (t.createdAt = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<HanamoneyTransaction> findPageAfter(@Param("membershipId") Long membershipId,
+                                             @Param("startDate") LocalDateTime startDate,
+                                             @Param("cursorDate") LocalDateTime cursorDate,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    @Query("SELECT t FROM HanamoneyTransaction t WHERE t.membership.id = :membershipId AND t.transactionType = :type " +
+           "AND t.createdAt BETWEEN :startDate AND :endDate " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<HanamoneyTransaction> findFirstPageByType(@Param("membershipId") Long membershipId,
+                                                   @Param("type") HanamoneyTransaction.TransactionType type,
+                                                   @Param("startDate") LocalDateTime startDate,
+                                                   @Param("endDate") LocalDateTime endDate,
+                                                   Pageable pageable);
 
+    @Query("SELECT t FROM HanamoneyTransaction t WHERE t.membership.id = :membershipId AND t.transactionType = :type " +
+           "AND t.createdAt >= :startDate " +
+           "AND (t.createdAt < :cursorDate OR (t.createdAt = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<HanamoneyTransaction> findPageByTypeAfter(@Param("membershipId") Long membershipId,
+                                                   @Param("type") HanamoneyTransaction.TransactionType type,
+                                                   @Param("startDate") LocalDateTime startDate,
+                                                   @Param("cursorDate") LocalDateTime cursorDate,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
+
+    /**
+     * afterId 이후 거래를 유형별로 합산한다. 행마다 [유형, 금액 합, 건수, 최대 ID].
+     * (membership_id, id) 인덱스 범위만 읽으므로 체크포인트 이후 거래가 적으면 전체 이력과 무관하게 빠르다.
+     */
+    @Query("SELECT t.transactionType, SUM(t.amount), COUNT(t), MAX(t.id) FROM HanamoneyTransaction t " +
+           "WHERE t.membership.id = :membershipId AND t.id > :afterId GROUP BY t.transactionType")
+    List<Object[]> sumByTypeAfter(@Param("membershipId") Long membershipId, @Param("afterId") Long afterId);
+
+    /**
+     * createdAfter 이후에 만들어졌지만 ID 는 upToId 이하인 거래가 있는지 본다.
+     * (membership_id, created_at, id) 인덱스에서 createdAfter 이후 범위만 읽으므로 이력 길이와 무관하다.
+     */
+    boolean existsByMembershipIdAndCreatedAtAfterAndIdLessThanEqual(Long membershipId, LocalDateTime createdAfter, Long upToId);
+}
@@ -0,0 +1,262 @@
+package com.kopo.hanacard.hanamoney.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 하나머니 잔액 변경을 사용자(전화번호)별로 합쳐 하나그린세상에 보내는 논블로킹 파이프라인.
+ *
+ * 사용자의 첫 변경이 들어오면 window-ms 만큼 기다리는 동안 이어지는 변경을 순증감 하나로 합친 뒤 한 번에 보낸다.
+ * 같은 사용자에 대한 전송은 한 번에 하나만 진행되며, 전송 중에 들어온 변경은 다음 묶음으로 모여 이전 전송이
+ * 끝난 뒤에 나가므로 사용자별 순서가 보장된다. 묶음마다 멱등 키를 발급해 재시도에도 같은 키를 쓴다.
+ *
+ * 큐는 크기가 제한되어 있고 동시 전송 수는 concurrency 로 묶여 있어, 하나그린세상이 느려지면 큐가 차고
+ * 넘치는 변경은 로그를 남기고 버린다.
+ */
+@Slf4j
+@Component
+public class GreenWorldSyncPipeline {
+
+    private static final String UPDATE_HANA_MONEY_PATH = "/api/members/update-hana-money";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final WebClient webClient;
+    private final ConcurrentHashMap<String, UserSyncState> states = new ConcurrentHashMap<>();
+
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder sentCount = new LongAdder();
+
+    @Value("${integration.greenworld-sync.window-ms:200}")
+    private long windowMs;
+
+    @Value("${integration.greenworld-sync.concurrency:8}")
+    private int concurrency;
+
+    @Value("${integration.greenworld-sync.queue-capacity:1024}")
+    private int queueCapacity;
+
+    @Value("${integration.greenworld-sync.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${integration.greenworld-sync.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    private Sinks.Many<String> sink;
+    private Disposable subscription;
+
+    public GreenWorldSyncPipeline(@Qualifier("greenWorldWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @PostConstruct
+    void start() {
+        Duration window = Duration.ofMillis(windowMs);
+        sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<String>get(queueCapacity).get());
+        subscription = sink.asFlux()
+                .flatMap(phoneNumber -> Mono.delay(window).thenReturn(phoneNumber), queueCapacity)
+                .flatMap(this::drain, concurrency)
+                .subscribe();
+        log.info("하나그린세상 동기화 파이프라인 시작 - 병합 대기: {}ms, 동시 전송: {}, 큐 크기: {}",
+                windowMs, concurrency, queueCapacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (!states.isEmpty()) {
+            log.warn("전송되지 않은 하나그린세상 동기화 {}건을 남기고 종료합니다.", states.size());
+        }
+    }
+
+    /**
+     * 잔액 변경을 대기열에 넣는다. 호출 스레드는 전송을 기다리지 않는다.
+     */
+    public void submit(String phoneNumber, long delta, String description) {
+        submittedCount.increment();
+        boolean[] enqueue = {false};
+        states.compute(phoneNumber, (key, state) -> {
+            UserSyncState current = state != null ? state : new UserSyncState();
+            current.add(delta, description);
+            enqueue[0] = current.markQueuedIfIdle();
+            return current;
+        });
+
+        if (enqueue[0]) {
+            emit(phoneNumber);
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        long submitted = submittedCount.sum();
+        long sent = sentCount.sum();
+
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("submitted", submitted);
+        metrics.put("sent", sent);
+        metrics.put("coalescingRatio", sent > 0 ? (double) submitted / sent : 0.0);
+        metrics.put("pendingUsers", states.size());
+        return metrics;
+    }
+
+    // 여러 스레드가 동시에 emit 하면 unicast sink 가 FAIL_NON_SERIALIZED 를 돌려주므로 직렬화한다
+    private synchronized void emit(String phoneNumber) {
+        Sinks.EmitResult result = sink.tryEmitNext(phoneNumber);
+        if (result.isFailure()) {
+            states.computeIfPresent(phoneNumber, (key, state) -> {
+                log.error("하나그린세상 동기화 큐가 가득 차 변경을 버립니다. phone: {}, delta: {}, result: {}",
+                        phoneNumber, state.amount, result);
+                state.discardPending();
+                return state.inFlight ? state : null;
+            });
+        }
+    }
+
+    private Mono<Void> drain(String phoneNumber) {
+        SyncBatch[] frozen = {null};
+        states.computeIfPresent(phoneNumber, (key, state) -> {
+            frozen[0] = state.freeze();
+            return frozen[0] != null ? state : null;
+        });
+
+        SyncBatch batch = frozen[0];
+        if (batch == null) {
+            return Mono.empty();
+        }
+        return send(phoneNumber, batch)
+                .doFinally(signal -> complete(phoneNumber));
+    }
+
+    /**
+     * 전송이 끝나면(성공이든 최종 실패든) 그 사이 모인 변경이 있으면 다시 큐에 넣는다.
+     */
+    private void complete(String phoneNumber) {
+        boolean[] enqueue = {false};
+        states.computeIfPresent(phoneNumber, (key, state) -> {
+            state.inFlight = false;
+            if (!state.hasPending()) {
+                return null;
+            }
+            enqueue[0] = state.markQueuedIfIdle();
+            return state;
+        });
+
+        if (enqueue[0]) {
+            emit(phoneNumber);
+        }
+    }
+
+    private Mono<Void> send(String phoneNumber, SyncBatch batch) {
+        String transactionType = batch.amount > 0 ? "EARN" : "SPEND";
+        long amount = Math.abs(batch.amount);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("phoneNumber", phoneNumber);
+        requestBody.put("amount", amount);
+        requestBody.put("transactionType", transactionType);
+        requestBody.put("description", batch.description);
+        requestBody.put("idempotencyKey", batch.idempotencyKey);
+
+        return webClient.post()
+                .uri(UPDATE_HANA_MONEY_PATH)
+                .header(IDEMPOTENCY_KEY_HEADER, batch.idempotencyKey)
+                .bodyValue(requestBody)
+                .retrieve()
+                .toBodilessEntity()
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMs)))
+                .doOnSuccess(response -> {
+                    sentCount.increment();
+                    log.info("하나그린세상 동기화 완료. phone: {}, amount: {}, type: {}, 합산: {}건, key: {}",
+                            phoneNumber, amount, transactionType, batch.count, batch.idempotencyKey);
+                })
+                .onErrorResume(e -> {
+                    log.error("하나그린세상 동기화 실패. phone: {}, amount: {}, type: {}, key: {}",
+                            phoneNumber, amount, transactionType, batch.idempotencyKey, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 사용자별 동기화 상태. states.compute 안에서만 읽고 쓴다.
+     */
+    private static final class UserSyncState {
+        private long amount;
+        private int count;
+        private String description;
+        private boolean queued;
+        private boolean inFlight;
+
+        private void add(long delta, String description) {
+            this.amount += delta;
+            this.count++;
+            this.description = description;
+        }
+
+        private boolean hasPending() {
+            return count > 0;
+        }
+
+        // 큐에도 없고 전송 중도 아닐 때만 새로 큐에 넣는다
+        private boolean markQueuedIfIdle() {
+            if (queued || inFlight) {
+                return false;
+            }
+            queued = true;
+            return true;
+        }
+
+        private SyncBatch freeze() {
+            queued = false;
+            if (amount == 0) {
+                // 적립과 사용이 상쇄되면 보낼 것이 없다
+                discardPending();
+                return null;
+            }
+            SyncBatch batch = new SyncBatch(UUID.randomUUID().toString(), amount, count,
+                    count == 1 ? description : String.format("하나머니 변경 %d건 합산", count));
+            discardPending();
+            inFlight = true;
+            return batch;
+        }
+
+        private void discardPending() {
+            amount = 0;
+            count = 0;
+            description = null;
+            queued = false;
+        }
+    }
+
+    private static final class SyncBatch {
+        private final String idempotencyKey;
+        private final long amount;
+        private final int count;
+        private final String description;
+
+        private SyncBatch(String idempotencyKey, long amount, int count, String description) {
+            this.idempotencyKey = idempotencyKey;
+            this.amount = amount;
+            this.count = count;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kopo.hanacard.hanamoney.service;
+
+import com.kopo.hanacard.hanamoney.domain.HanamoneyBalanceCheckpoint;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyTransaction;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyBalanceCheckpointRepository;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyTransactionRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 하나머니 원장으로 멤버십 잔액을 다시 계산한다.
+ * 체크포인트가 있으면 그 잔액에 이후 거래만 더하고, 없거나 체크포인트가 가리키는 구간이 바뀌었으면 처음부터 다시 계산한다.
+ *
+ * 거래 ID 는 서버별로 시퀀스 블록을 나눠 쓰므로(pooled-lo) 체크포인트 이후에 그보다 작은 ID 의 거래가 커밋될 수 있다.
+ * 거래 내역은 항상 멤버십 행을 잠근 트랜잭션에서 저장되고 대사도 같은 행을 잠근 채 체크포인트를 쓰므로,
+ * 그런 거래는 체크포인트 갱신 시각(서버 간 시계 차이 여유분을 뺀) 이후에 만들어진 것뿐이다.
+ * 그 구간만 찾아보고 있으면 전체 재계산으로 전환한다.
+ */
+@Component
+public class HanamoneyBalanceReplayer {
+
+    private final HanamoneyBalanceCheckpointRepository checkpointRepository;
+    private final HanamoneyTransactionRepository hanamoneyTransactionRepository;
+    private final long clockSkewMs;
+
+    public HanamoneyBalanceReplayer(HanamoneyBalanceCheckpointRepository checkpointRepository,
+                                    HanamoneyTransactionRepository hanamoneyTransactionRepository,
+                                    @Value("${hanamoney.reconciliation.clock-skew-ms:5000}") long clockSkewMs) {
+        this.checkpointRepository = checkpointRepository;
+        this.hanamoneyTransactionRepository = hanamoneyTransactionRepository;
+        this.clockSkewMs = clockSkewMs;
+    }
+
+    @Transactional(readOnly = true)
+    public Replay replay(Long membershipId) {
+        Optional<HanamoneyBalanceCheckpoint> checkpoint = checkpointRepository.findByMembershipId(membershipId);
+        if (checkpoint.isPresent()) {
+            HanamoneyBalanceCheckpoint cp = checkpoint.get();
+            if (!hasLateCommit(membershipId, cp)) {
+                return applyAfter(membershipId, cp.getBalance(), cp.getLastTransactionId(), cp.getTransactionCount(), true);
+            }
+        }
+        return applyAfter(membershipId, 0L, 0L, 0L, false);
+    }
+
+    // 체크포인트를 쓴 뒤 커밋됐는데 ID 가 lastTransactionId 이하인 거래
+    private boolean hasLateCommit(Long membershipId, HanamoneyBalanceCheckpoint cp) {
+        if (cp.getUpdatedAt() == null) {
+            return true;
+        }
+        LocalDateTime since = cp.getUpdatedAt().minusNanos(clockSkewMs * 1_000_000L);
+        return hanamoneyTransactionRepository.existsByMembershipIdAndCreatedAtAfterAndIdLessThanEqual(
+                membershipId, since, cp.getLastTransactionId());
+    }
+
+    private Replay applyAfter(Long membershipId, long baseBalance, long baseTransactionId, long baseCount, boolean fromCheckpoint) {
+        long balance = baseBalance;
+        long lastTransactionId = baseTransactionId;
+        long replayed = 0;
+        for (Object[] row : hanamoneyTransactionRepository.sumByTypeAfter(membershipId, baseTransactionId)) {
+            HanamoneyTransaction.TransactionType type = (HanamoneyTransaction.TransactionType) row[0];
+            balance += type.signedAmount(((Number) row[1]).longValue());
+            replayed += ((Number) row[2]).longValue();
+            lastTransactionId = Math.max(lastTransactionId, ((Number) row[3]).longValue());
+        }
+        return new Replay(membershipId, balance, lastTransactionId, baseCount + replayed, replayed, fromCheckpoint);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Replay {
+        private final Long membershipId;
+        private final long balance;
+        private final long lastTransactionId;
+        private final long transactionCount; // lastTransactionId 이하 반영 건수
+        private final long replayedCount;    // 이번에 읽은 거래 건수
+        private final boolean fromCheckpoint;
+    }
+}
@@ -0,0 +1,221 @@
+package com.kopo.hanacard.hanamoney.service;
+
+import com.kopo.hanacard.common.exception.BusinessException;
+import com.kopo.hanacard.common.exception.ErrorCode;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyEarnJournal;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyTransaction;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyEarnJournalRepository;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyMembershipRepository;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyTransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캠페인 캐시백처럼 한 멤버십에 적립이 몰릴 때 쓰는 적립 모아두기 모드 (hanamoney.earn-accumulator.enabled).
+ *
+ * 적립은 멤버십 행을 건드리지 않고 hanamoney_earn_journal 에 INSERT 만 하며, 주기적으로 멤버십별로 모아
+ * 잔액/누적 적립액 UPDATE 한 번과 거래 내역 배치 INSERT 로 반영한다. 저널이 DB 에 남으므로 서버가 내려가도 적립은 유실되지 않는다.
+ * 반영은 멤버십 행을 잠근 상태에서 이뤄지므로 여러 서버가 같은 저널을 중복 반영하지 않는다.
+ *
+ * 사용/출금/이체 전에는 해당 멤버십의 저널을 먼저 반영해 차감이 항상 모든 적립을 본 잔액으로 판단되게 한다.
+ * 서버별 LongAdder 버킷은 이 서버가 기록했지만 아직 반영되지 않은 적립액으로, 멤버십 조회 응답의 pendingEarnAmount 와
+ * /health/hanamoney-earn-accumulator 지표로 내려간다.
+ */
+@Slf4j
+@Component
+public class HanamoneyEarnAccumulator {
+
+    // Oracle IN 절 제한
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final HanamoneyEarnJournalRepository journalRepository;
+    private final HanamoneyMembershipRepository hanamoneyMembershipRepository;
+    private final HanamoneyTransactionRepository hanamoneyTransactionRepository;
+    private final HanamoneyLedger hanamoneyLedger;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final Map<Long, LongAdder> pendingByMembership = new ConcurrentHashMap<>();
+    private final LongAdder appendedCount = new LongAdder();
+    private final LongAdder flushedCount = new LongAdder();
+
+    public HanamoneyEarnAccumulator(HanamoneyEarnJournalRepository journalRepository,
+                                    HanamoneyMembershipRepository hanamoneyMembershipRepository,
+                                    HanamoneyTransactionRepository hanamoneyTransactionRepository,
+                                    HanamoneyLedger hanamoneyLedger,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${hanamoney.earn-accumulator.enabled:false}") boolean enabled) {
+        this.journalRepository = journalRepository;
+        this.hanamoneyMembershipRepository = hanamoneyMembershipRepository;
+        this.hanamoneyTransactionRepository = hanamoneyTransactionRepository;
+        this.hanamoneyLedger = hanamoneyLedger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 적립을 저널에 기록한다. 잔액에는 다음 반영 주기(또는 다음 사용) 때 반영된다.
+     */
+    @Transactional
+    public void append(HanamoneyMembership membership, Long amount, String description) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_HANAMONEY_AMOUNT, "금액은 0보다 커야 합니다.");
+        }
+        Long membershipId = membership.getId();
+        journalRepository.save(HanamoneyEarnJournal.builder()
+                .membershipId(membershipId)
+                .amount(amount)
+                .description(description)
+                .build());
+
+        // 롤백된 적립이 버킷에 남지 않도록 커밋 이후에 더한다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addPending(membershipId, amount);
+                }
+            });
+        } else {
+            addPending(membershipId, amount);
+        }
+    }
+
+    /**
+     * 멤버십의 미반영 적립을 잔액과 거래 내역에 옮긴다. 호출한 트랜잭션이 끝날 때까지 멤버십 행 잠금이 유지된다.
+     * 여러 멤버십을 반영할 때는 id 오름차순으로 호출해야 이체와 잠금 순서가 어긋나지 않는다.
+     *
+     * @return 반영한 적립 건수
+     */
+    @Transactional
+    public int flushMembership(Long membershipId) {
+        // 저널을 읽기 전에 잠가서 다른 서버의 반영과 겹치지 않게 한다
+        HanamoneyMembership membership = hanamoneyMembershipRepository.findByIdForUpdate(membershipId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "하나머니 멤버십을 찾을 수 없습니다."));
+
+        List<HanamoneyEarnJournal> entries = journalRepository.findByMembershipIdOrderByIdAsc(membershipId);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        long total = 0;
+        for (HanamoneyEarnJournal entry : entries) {
+            total += entry.getAmount();
+        }
+        hanamoneyLedger.credit(membership, total);
+
+        // 반영 후 잔액에서 거꾸로 계산해 건별 거래 후 잔액을 채운다
+        long balance = membership.getBalance() - total;
+        List<HanamoneyTransaction> transactions = new ArrayList<>(entries.size());
+        List<Long> journalIds = new ArrayList<>(entries.size());
+        for (HanamoneyEarnJournal entry : entries) {
+            balance += entry.getAmount();
+            transactions.add(HanamoneyTransaction.builder()
+                    .membership(membership)
+                    .amount(entry.getAmount())
+                    .balanceAfter(balance)
+                    .transactionType(HanamoneyTransaction.TransactionType.EARN)
+                    .description(entry.getDescription())
+                    .build());
+            journalIds.add(entry.getId());
+        }
+        hanamoneyTransactionRepository.saveAll(transactions);
+
+        for (int from = 0; from < journalIds.size(); from += DELETE_CHUNK_SIZE) {
+            journalRepository.deleteByIdIn(journalIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, journalIds.size())));
+        }
+
+        long flushedAmount = total;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                subtractPending(membershipId, flushedAmount);
+                flushedCount.add(entries.size());
+            }
+        });
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${hanamoney.earn-accumulator.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 다른 서버가 기록한 저널도 함께 반영한다. 멤버십마다 별도 트랜잭션이라 잠금을 오래 쥐지 않는다
+            List<Long> membershipIds = journalRepository.findPendingMembershipIds();
+            int flushed = 0;
+            for (Long membershipId : membershipIds) {
+                try {
+                    Integer count = transactionTemplate.execute(status -> flushMembership(membershipId));
+                    flushed += count != null ? count : 0;
+                } catch (Exception e) {
+                    log.error("하나머니 적립 저널 반영 실패 - 멤버십 ID: {}, 오류: {}", membershipId, e.getMessage(), e);
+                }
+            }
+            if (flushed > 0) {
+                log.debug("하나머니 적립 저널 반영 - 멤버십: {}명, 적립: {}건", membershipIds.size(), flushed);
+            }
+        } catch (Exception e) {
+            log.error("하나머니 적립 저널 반영 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이 서버가 기록했지만 아직 잔액에 반영되지 않은 적립액.
+     */
+    public long pendingAmount(Long membershipId) {
+        LongAdder adder = pendingByMembership.get(membershipId);
+        return adder != null ? Math.max(0, adder.sum()) : 0;
+    }
+
+    public Map<String, Object> stats() {
+        long pendingAmount = 0;
+        for (LongAdder adder : pendingByMembership.values()) {
+            pendingAmount += Math.max(0, adder.sum());
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("pendingMemberships", pendingByMembership.size());
+        stats.put("pendingAmount", pendingAmount);
+        stats.put("appended", appendedCount.sum());
+        stats.put("flushed", flushedCount.sum());
+        return stats;
+    }
+
+    private void addPending(Long membershipId, long amount) {
+        pendingByMembership.computeIfAbsent(membershipId, id -> new LongAdder()).add(amount);
+        appendedCount.increment();
+    }
+
+    // 다른 서버가 기록한 적립까지 반영했을 수 있으므로 0 이하가 되면 버킷을 지운다
+    private void subtractPending(Long membershipId, long amount) {
+        LongAdder adder = pendingByMembership.get(membershipId);
+        if (adder == null) {
+            return;
+        }
+        adder.add(-amount);
+        if (adder.sum() <= 0) {
+            pendingByMembership.remove(membershipId, adder);
+        }
+    }
+}
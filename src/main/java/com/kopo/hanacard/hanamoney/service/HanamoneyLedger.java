@@ -0,0 +1,119 @@
+package com.kopo.hanacard.hanamoney.service;
+
+import com.kopo.hanacard.common.exception.BusinessException;
+import com.kopo.hanacard.common.exception.ErrorCode;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyTransaction;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyMembershipRepository;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyTransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 하나머니 잔액 증감을 조건부 UPDATE 한 문장으로 처리한다.
+ * 자바에서 읽고-더하고-저장하지 않으므로 동시 적립/차감에서도 갱신이 유실되지 않고,
+ * 차감은 WHERE 절에서 잔액을 확인하므로 음수 잔액이 생기지 않는다.
+ * UPDATE 로 잡은 행 잠금은 커밋까지 유지되므로 직후 refresh 한 잔액이 곧 이 거래의 거래 후 잔액이다.
+ * 두 멤버십을 함께 바꾸는 이체는 행을 id 오름차순으로 잠근 뒤 처리해 교착 상태를 피한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HanamoneyLedger {
+
+    private final HanamoneyMembershipRepository hanamoneyMembershipRepository;
+    private final HanamoneyTransactionRepository hanamoneyTransactionRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public HanamoneyMembership credit(HanamoneyMembership membership, Long amount) {
+        validateAmount(amount);
+        int updated = hanamoneyMembershipRepository.credit(membership.getId(), amount, LocalDateTime.now());
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "하나머니 멤버십을 찾을 수 없습니다.");
+        }
+        entityManager.refresh(membership);
+        return membership;
+    }
+
+    @Transactional
+    public HanamoneyMembership debit(HanamoneyMembership membership, Long amount) {
+        validateAmount(amount);
+        int updated = hanamoneyMembershipRepository.debitIfSufficient(membership.getId(), amount, LocalDateTime.now());
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, "잔액이 부족합니다.");
+        }
+        entityManager.refresh(membership);
+        return membership;
+    }
+
+    /**
+     * 잠금 조회가 최신 잔액을 읽도록 엔티티가 아닌 멤버십 id 를 받는다
+     * (이미 영속성 컨텍스트에 있는 엔티티는 잠금 조회 결과로 갱신되지 않는다).
+     */
+    @Transactional
+    public Transfer transfer(Long fromMembershipId, Long toMembershipId, Long amount, String description) {
+        validateAmount(amount);
+        if (fromMembershipId.equals(toMembershipId)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "같은 멤버십으로는 이체할 수 없습니다.");
+        }
+
+        // A→B, B→A 이체가 동시에 들어와도 두 트랜잭션이 같은 순서로 잠그므로 서로를 기다리며 멈추지 않는다
+        HanamoneyMembership first = lockMembership(Math.min(fromMembershipId, toMembershipId));
+        HanamoneyMembership second = lockMembership(Math.max(fromMembershipId, toMembershipId));
+        HanamoneyMembership from = first.getId().equals(fromMembershipId) ? first : second;
+        HanamoneyMembership to = from == first ? second : first;
+
+        if (from.getBalance() < amount) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, "잔액이 부족합니다.");
+        }
+
+        // 두 행 모두 잠겨 있으므로 엔티티 값을 바꿔 커밋 시 반영해도 다른 갱신과 겹치지 않는다
+        from.spend(amount);
+        to.earn(amount);
+
+        // 출금/입금 내역은 한 번의 배치 INSERT 로 기록한다
+        hanamoneyTransactionRepository.saveAll(List.of(
+                entry(from, amount, HanamoneyTransaction.TransactionType.TRANSFER_OUT, description),
+                entry(to, amount, HanamoneyTransaction.TransactionType.TRANSFER_IN, description)));
+
+        return new Transfer(from, to);
+    }
+
+    private HanamoneyMembership lockMembership(Long membershipId) {
+        return hanamoneyMembershipRepository.findByIdForUpdate(membershipId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "하나머니 멤버십을 찾을 수 없습니다."));
+    }
+
+    private HanamoneyTransaction entry(HanamoneyMembership membership, Long amount,
+                                       HanamoneyTransaction.TransactionType transactionType, String description) {
+        return HanamoneyTransaction.builder()
+                .membership(membership)
+                .amount(amount)
+                .balanceAfter(membership.getBalance())
+                .transactionType(transactionType)
+                .description(description)
+                .build();
+    }
+
+    private void validateAmount(Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_HANAMONEY_AMOUNT, "금액은 0보다 커야 합니다.");
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Transfer {
+        private final HanamoneyMembership from;
+        private final HanamoneyMembership to;
+    }
+}
@@ -0,0 +1,194 @@
+package com.kopo.hanacard.hanamoney.service;
+
+import com.kopo.hanacard.common.exception.BusinessException;
+import com.kopo.hanacard.common.exception.ErrorCode;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyBalanceCheckpoint;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import com.kopo.hanacard.hanamoney.dto.HanamoneyReconciliationReport;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyBalanceCheckpointRepository;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyMembershipRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모든 하나머니 멤버십의 잔액을 원장 재계산 결과와 대조하고, 일치하면 체크포인트를 앞으로 옮긴다.
+ * 체크포인트 덕분에 멤버십마다 지난 대사 이후의 거래만 읽으므로 이력이 길어져도 대사 시간이 늘지 않는다.
+ *
+ * 멤버십 ID 를 페이지 단위로 읽어 작업 스레드에 나눠 처리한다. 작업 스레드마다 잠금을 쥔 트랜잭션이 커넥션을 하나씩 쓰므로
+ * 스레드 수는 커넥션 풀 크기에서 요청 처리용 여유분을 뺀 값을 넘지 않는다.
+ * 멤버십마다 짧은 트랜잭션에서 행을 잠그고 비교하므로 대사 중인 잔액이 바뀌지 않고, 한 번에 한 행만 잠가 이체와 교착되지 않는다.
+ */
+@Slf4j
+@Component
+public class HanamoneyReconciliationJob {
+
+    private final HanamoneyMembershipRepository hanamoneyMembershipRepository;
+    private final HanamoneyBalanceCheckpointRepository checkpointRepository;
+    private final HanamoneyBalanceReplayer replayer;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int pageSize;
+    private final int maxReportedMismatches;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public HanamoneyReconciliationJob(HanamoneyMembershipRepository hanamoneyMembershipRepository,
+                                      HanamoneyBalanceCheckpointRepository checkpointRepository,
+                                      HanamoneyBalanceReplayer replayer,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                                      @Value("${hanamoney.reconciliation.parallelism:2}") int parallelism,
+                                      @Value("${hanamoney.reconciliation.connection-headroom:2}") int connectionHeadroom,
+                                      @Value("${hanamoney.reconciliation.page-size:1000}") int pageSize,
+                                      @Value("${hanamoney.reconciliation.max-reported-mismatches:100}") int maxReportedMismatches) {
+        this.hanamoneyMembershipRepository = hanamoneyMembershipRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.replayer = replayer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = Math.max(1, Math.min(parallelism, connectionPoolSize - connectionHeadroom));
+        this.pageSize = pageSize;
+        this.maxReportedMismatches = maxReportedMismatches;
+    }
+
+    @Scheduled(cron = "${hanamoney.reconciliation.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (Exception e) {
+            log.error("하나머니 잔액 대사 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    public HanamoneyReconciliationReport run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "하나머니 잔액 대사가 이미 실행 중입니다.");
+        }
+        long started = System.nanoTime();
+        Tally tally = new Tally();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("hanamoney-reconcile-"));
+        try {
+            Long afterId = 0L;
+            while (true) {
+                List<Long> ids = hanamoneyMembershipRepository.findIdsAfter(afterId, PageRequest.of(0, pageSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                // 페이지 단위로 기다려 진행 중인 작업 수를 페이지 크기 이하로 유지한다
+                List<CompletableFuture<Void>> futures = new ArrayList<>(ids.size());
+                for (Long membershipId : ids) {
+                    futures.add(CompletableFuture.runAsync(() -> verify(membershipId, tally), workers));
+                }
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+                if (ids.size() < pageSize) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+        } finally {
+            workers.shutdown();
+            running.set(false);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        HanamoneyReconciliationReport report = tally.toReport(parallelism, elapsedMs);
+        if (report.getMismatchedCount() > 0 || report.getFailedCount() > 0) {
+            log.warn("하나머니 잔액 대사 완료 - 대상: {}, 불일치: {}, 실패: {}, {}ms",
+                    report.getCheckedCount(), report.getMismatchedCount(), report.getFailedCount(), elapsedMs);
+        } else {
+            log.info("하나머니 잔액 대사 완료 - 대상: {}, 재계산 거래: {}건, 체크포인트 갱신: {}, {}ms",
+                    report.getCheckedCount(), report.getReplayedTransactions(), report.getCheckpointsWritten(), elapsedMs);
+        }
+        return report;
+    }
+
+    private void verify(Long membershipId, Tally tally) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                HanamoneyMembership membership = hanamoneyMembershipRepository.findByIdForUpdate(membershipId).orElse(null);
+                if (membership == null) {
+                    return; // 페이지를 읽은 뒤 삭제된 멤버십
+                }
+                HanamoneyBalanceReplayer.Replay replay = replayer.replay(membershipId);
+                tally.checked.increment();
+                tally.replayedTransactions.add(replay.getReplayedCount());
+                if (!replay.isFromCheckpoint()) {
+                    tally.fullReplays.increment();
+                }
+
+                if (replay.getBalance() != membership.getBalance()) {
+                    tally.mismatched(membershipId, membership.getBalance(), replay.getBalance(), maxReportedMismatches);
+                    log.warn("하나머니 잔액 불일치 - 멤버십 ID: {}, 저장 잔액: {}, 원장 잔액: {}",
+                            membershipId, membership.getBalance(), replay.getBalance());
+                    return;
+                }
+                tally.matched.increment();
+
+                if (replay.getReplayedCount() > 0 || !replay.isFromCheckpoint()) {
+                    saveCheckpoint(replay);
+                    tally.checkpointsWritten.increment();
+                }
+            });
+        } catch (Exception e) {
+            tally.failed.increment();
+            log.error("하나머니 잔액 대사 실패 - 멤버십 ID: {}, 오류: {}", membershipId, e.getMessage(), e);
+        }
+    }
+
+    private void saveCheckpoint(HanamoneyBalanceReplayer.Replay replay) {
+        checkpointRepository.findByMembershipId(replay.getMembershipId())
+                .ifPresentOrElse(
+                        checkpoint -> checkpoint.advance(replay.getBalance(), replay.getLastTransactionId(), replay.getTransactionCount()),
+                        () -> checkpointRepository.save(HanamoneyBalanceCheckpoint.builder()
+                                .membershipId(replay.getMembershipId())
+                                .balance(replay.getBalance())
+                                .lastTransactionId(replay.getLastTransactionId())
+                                .transactionCount(replay.getTransactionCount())
+                                .build()));
+    }
+
+    /**
+     * 작업 스레드들이 함께 쓰는 집계 값.
+     */
+    private static class Tally {
+        private final LongAdder checked = new LongAdder();
+        private final LongAdder matched = new LongAdder();
+        private final LongAdder mismatchedCount = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder fullReplays = new LongAdder();
+        private final LongAdder replayedTransactions = new LongAdder();
+        private final LongAdder checkpointsWritten = new LongAdder();
+        private final List<HanamoneyReconciliationReport.Mismatch> mismatches = Collections.synchronizedList(new ArrayList<>());
+
+        private void mismatched(Long membershipId, long storedBalance, long replayedBalance, int maxReported) {
+            mismatchedCount.increment();
+            if (mismatches.size() < maxReported) {
+                mismatches.add(new HanamoneyReconciliationReport.Mismatch(membershipId, storedBalance, replayedBalance));
+            }
+        }
+
+        private HanamoneyReconciliationReport toReport(int parallelism, long elapsedMs) {
+            return new HanamoneyReconciliationReport(
+                    checked.sum(), matched.sum(), mismatchedCount.sum(), failed.sum(), fullReplays.sum(),
+                    replayedTransactions.sum(), checkpointsWritten.sum(), parallelism, elapsedMs,
+                    new ArrayList<>(mismatches));
+        }
+    }
+}
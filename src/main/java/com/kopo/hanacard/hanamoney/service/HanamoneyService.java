@@ -1,20 +1,29 @@
 package com.kopo.hanacard.hanamoney.service;
 
+import com.kopo.hanacard.common.dto.CursorPageResponse;
+import com.kopo.hanacard.common.dto.KeysetCursor;
 import com.kopo.hanacard.common.exception.BusinessException;
 import com.kopo.hanacard.common.exception.ErrorCode;
 import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
 import com.kopo.hanacard.hanamoney.domain.HanamoneyTransaction;
+import com.kopo.hanacard.hanamoney.dto.HanamoneyTransactionResponse;
+import com.kopo.hanacard.hanamoney.event.HanamoneyBalanceChangedEvent;
 import com.kopo.hanacard.hanamoney.repository.HanamoneyMembershipRepository;
 import com.kopo.hanacard.hanamoney.repository.HanamoneyTransactionRepository;
 import com.kopo.hanacard.user.domain.User;
 import com.kopo.hanacard.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +32,19 @@ public class HanamoneyService {
 
     private final HanamoneyMembershipRepository hanamoneyMembershipRepository;
     private final HanamoneyTransactionRepository hanamoneyTransactionRepository;
+    private final HanamoneyLedger hanamoneyLedger;
+    private final HanamoneyEarnAccumulator earnAccumulator;
     private final UserService userService;
-    private final HanaGreenWorldIntegrationService hanaGreenWorldIntegrationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 기간을 지정하지 않은 거래내역 조회의 시작 시각
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Value("${hanamoney.transaction.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${hanamoney.transaction.page.max-size:100}")
+    private int maxPageSize;
 
     @Transactional
     public HanamoneyMembership createHanamoneyMembership(Long userId) {
@@ -50,6 +70,25 @@ public class HanamoneyService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "하나머니 멤버십을 찾을 수 없습니다."));
     }
 
+    /**
+     * 적립 모아두기 모드에서 이 서버가 기록했지만 아직 잔액에 반영되지 않은 적립액. 다음 반영 주기에 잔액으로 옮겨진다.
+     * 메모리 값만 읽으므로 트랜잭션(커넥션)을 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getPendingEarnAmount(Long membershipId) {
+        return earnAccumulator.pendingAmount(membershipId);
+    }
+
+    private HanamoneyMembership getHanamoneyMembershipWithUser(Long userId) {
+        return hanamoneyMembershipRepository.findWithUserByUserId(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "하나머니 멤버십을 찾을 수 없습니다."));
+    }
+
+    private Long getHanamoneyMembershipIdByUserId(Long userId) {
+        return hanamoneyMembershipRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "하나머니 멤버십을 찾을 수 없습니다."));
+    }
+
     @Transactional
     public HanamoneyMembership getHanamoneyMembershipById(Long membershipId) {
         return hanamoneyMembershipRepository.findById(membershipId)
@@ -58,75 +97,70 @@ public class HanamoneyService {
 
     @Transactional
     public HanamoneyMembership earn(Long userId, Long amount, String description) {
-        HanamoneyMembership membership = getHanamoneyMembershipByUserId(userId);
+        HanamoneyMembership membership = getHanamoneyMembershipWithUser(userId);
+
+        if (earnAccumulator.isEnabled()) {
+            // 멤버십 행을 잠그지 않고 저널에만 기록한다. 잔액과 거래 내역은 주기적으로 모아서 반영된다
+            earnAccumulator.append(membership, amount, description);
+            publishBalanceChanged(membership, amount, description);
+            return membership;
+        }
         
-        membership.earn(amount);
-        hanamoneyMembershipRepository.save(membership);
+        hanamoneyLedger.credit(membership, amount);
 
         // 거래 내역 생성
         createTransaction(membership, amount, HanamoneyTransaction.TransactionType.EARN, description);
         
-        // 하나그린세상에 동기화
-        hanaGreenWorldIntegrationService.syncToGreenWorld(userId, amount, "EARN", description);
+        // 하나그린세상 동기화는 커밋 이후 비동기로 처리
+        publishBalanceChanged(membership, amount, description);
         
         return membership;
     }
 
     @Transactional
     public HanamoneyMembership spend(Long userId, Long amount, String description) {
-        HanamoneyMembership membership = getHanamoneyMembershipByUserId(userId);
-        
-        if (membership.getBalance() < amount) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, "잔액이 부족합니다.");
-        }
+        HanamoneyMembership membership = getHanamoneyMembershipWithUser(userId);
+        flushPendingEarns(membership.getId());
         
-        membership.spend(amount);
-        hanamoneyMembershipRepository.save(membership);
+        // 잔액 확인과 차감을 한 문장으로 처리해 동시 사용에도 음수 잔액이 생기지 않는다
+        hanamoneyLedger.debit(membership, amount);
 
         // 거래 내역 생성
         createTransaction(membership, amount, HanamoneyTransaction.TransactionType.SPEND, description);
         
-        // 하나그린세상에 동기화
-        hanaGreenWorldIntegrationService.syncToGreenWorld(userId, amount, "SPEND", description);
+        // 하나그린세상 동기화는 커밋 이후 비동기로 처리
+        publishBalanceChanged(membership, -amount, description);
         
         return membership;
     }
 
     @Transactional
     public HanamoneyMembership transferTo(Long fromUserId, Long toUserId, Long amount, String description) {
-        HanamoneyMembership fromMembership = getHanamoneyMembershipByUserId(fromUserId);
-        HanamoneyMembership toMembership = getHanamoneyMembershipByUserId(toUserId);
-        
-        if (fromMembership.getBalance() < amount) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, "잔액이 부족합니다.");
-        }
-        
-        fromMembership.spend(amount);
-        toMembership.earn(amount);
-        
-        hanamoneyMembershipRepository.save(fromMembership);
-        hanamoneyMembershipRepository.save(toMembership);
+        Long fromMembershipId = getHanamoneyMembershipIdByUserId(fromUserId);
+        Long toMembershipId = getHanamoneyMembershipIdByUserId(toUserId);
+        // 이체 경로와 같은 id 오름차순으로 잠그며 반영한다
+        flushPendingEarns(Math.min(fromMembershipId, toMembershipId));
+        flushPendingEarns(Math.max(fromMembershipId, toMembershipId));
 
-        // 거래 내역 생성
-        createTransaction(fromMembership, amount, HanamoneyTransaction.TransactionType.TRANSFER_OUT, description);
-        createTransaction(toMembership, amount, HanamoneyTransaction.TransactionType.TRANSFER_IN, description);
+        // 잔액 확인, 양쪽 잔액 변경, 출금/입금 내역 기록을 잠금 순서가 보장된 경로에서 처리
+        HanamoneyLedger.Transfer transfer = hanamoneyLedger.transfer(fromMembershipId, toMembershipId, amount, description);
+
+        publishLocalBalanceChanged(transfer.getFrom(), -amount, description);
+        publishLocalBalanceChanged(transfer.getTo(), amount, description);
         
-        return fromMembership;
+        return transfer.getFrom();
     }
 
     @Transactional
     public HanamoneyMembership atmWithdraw(Long userId, Long amount, String description) {
         HanamoneyMembership membership = getHanamoneyMembershipByUserId(userId);
+        flushPendingEarns(membership.getId());
         
-        if (membership.getBalance() < amount) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, "잔액이 부족합니다.");
-        }
-        
-        membership.spend(amount);
-        hanamoneyMembershipRepository.save(membership);
+        hanamoneyLedger.debit(membership, amount);
 
         // 거래 내역 생성
         createTransaction(membership, amount, HanamoneyTransaction.TransactionType.ATM_WITHDRAWAL, description);
+        publishLocalBalanceChanged(membership, -amount, description);
         
         return membership;
     }
@@ -134,34 +168,85 @@ public class HanamoneyService {
     @Transactional
     public HanamoneyMembership exchangeToPartner(Long userId, Long amount, String partnerName, String description) {
         HanamoneyMembership membership = getHanamoneyMembershipByUserId(userId);
+        flushPendingEarns(membership.getId());
         
-        if (membership.getBalance() < amount) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, "잔액이 부족합니다.");
-        }
-        
-        membership.spend(amount);
-        hanamoneyMembershipRepository.save(membership);
+        hanamoneyLedger.debit(membership, amount);
 
         // 거래 내역 생성
         String transactionDescription = String.format("%s - %s", partnerName, description);
         createTransaction(membership, amount, HanamoneyTransaction.TransactionType.PARTNER_EXCHANGE, transactionDescription);
+        publishLocalBalanceChanged(membership, -amount, transactionDescription);
         
         return membership;
     }
 
-    public List<HanamoneyTransaction> getTransactionHistory(Long userId) {
-        HanamoneyMembership membership = getHanamoneyMembershipByUserId(userId);
-        return hanamoneyTransactionRepository.findByMembership(membership);
+    /**
+     * 하나머니 거래내역을 최신순으로 커서 페이지 조회한다. 유형과 기간은 선택이며,
+     * 이력 길이와 관계없이 (membership_id, created_at, id) 인덱스 범위만 읽는다.
+     */
+    public CursorPageResponse<HanamoneyTransactionResponse> getTransactionHistory(Long userId, String transactionType,
+                                                                                  LocalDateTime startDate, LocalDateTime endDate,
+                                                                                  String cursor, Integer size) {
+        HanamoneyTransaction.TransactionType type = parseTransactionType(transactionType);
+        LocalDateTime from = startDate != null ? startDate : HISTORY_START;
+        LocalDateTime to = endDate != null ? endDate : LocalDateTime.now();
+        if (from.isAfter(to)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "조회 시작일이 종료일보다 늦습니다.");
+        }
+
+        Long membershipId = getHanamoneyMembershipIdByUserId(userId);
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<HanamoneyTransaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = type == null
+                    ? hanamoneyTransactionRepository.findFirstPage(membershipId, from, to, limit)
+                    : hanamoneyTransactionRepository.findFirstPageByType(membershipId, type, from, to, limit);
+        } else {
+            // 커서 위치가 이미 종료일 이전이므로 이후 페이지는 시작일만 조건으로 건다
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = type == null
+                    ? hanamoneyTransactionRepository.findPageAfter(membershipId, from, position.getTimestamp(), position.getId(), limit)
+                    : hanamoneyTransactionRepository.findPageByTypeAfter(membershipId, type, from, position.getTimestamp(), position.getId(), limit);
+        }
+
+        return toPage(rows, pageSize);
     }
 
-    public List<HanamoneyTransaction> getTransactionHistoryByType(Long userId, HanamoneyTransaction.TransactionType transactionType) {
-        HanamoneyMembership membership = getHanamoneyMembershipByUserId(userId);
-        return hanamoneyTransactionRepository.findByMembershipAndTransactionType(membership, transactionType);
+    private CursorPageResponse<HanamoneyTransactionResponse> toPage(List<HanamoneyTransaction> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<HanamoneyTransaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<HanamoneyTransactionResponse> content = page.stream()
+                .map(HanamoneyTransactionResponse::new)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            HanamoneyTransaction last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponse.of(content, hasNext, nextCursor);
     }
 
-    public List<HanamoneyTransaction> getTransactionHistoryByDateRange(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        HanamoneyMembership membership = getHanamoneyMembershipByUserId(userId);
-        return hanamoneyTransactionRepository.findByMembershipAndCreatedAtBetween(membership, startDate, endDate);
+    private HanamoneyTransaction.TransactionType parseTransactionType(String transactionType) {
+        if (transactionType == null || transactionType.isBlank()) {
+            return null;
+        }
+        try {
+            return HanamoneyTransaction.TransactionType.valueOf(transactionType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 거래 유형입니다: " + transactionType);
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
     }
 
     private void createTransaction(HanamoneyMembership membership, Long amount, 
@@ -176,4 +261,23 @@ public class HanamoneyService {
         
         hanamoneyTransactionRepository.save(transaction);
     }
+
+    // 적립 모아두기 모드에서는 차감 전에 미반영 적립을 먼저 잔액에 반영한다
+    private void flushPendingEarns(Long membershipId) {
+        if (earnAccumulator.isEnabled()) {
+            earnAccumulator.flushMembership(membershipId);
+        }
+    }
+
+    private void publishBalanceChanged(HanamoneyMembership membership, long delta, String description) {
+        User user = membership.getUser();
+        eventPublisher.publishEvent(new HanamoneyBalanceChangedEvent(
+                user.getId(), user.getPhoneNumber(), delta, description, true));
+    }
+
+    // 하나그린세상 동기화 대상이 아닌 변경(이체, ATM 출금, 제휴사 교환). 캐시 무효화 등에 쓰인다
+    private void publishLocalBalanceChanged(HanamoneyMembership membership, long delta, String description) {
+        eventPublisher.publishEvent(new HanamoneyBalanceChangedEvent(
+                membership.getUser().getId(), null, delta, description, false));
+    }
 }
\ No newline at end of file
@@ -1,18 +1,28 @@
 package com.kopo.hanacard.integration.controller;
 
 import com.kopo.hanacard.common.dto.ApiResponse;
+import com.kopo.hanacard.common.exception.BusinessException;
+import com.kopo.hanacard.common.exception.ErrorCode;
 import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
 import com.kopo.hanacard.hanamoney.dto.HanamoneyMembershipResponse;
 import com.kopo.hanacard.hanamoney.service.HanamoneyService;
+import com.kopo.hanacard.integration.dto.CardCustomerInfoResponse;
+import com.kopo.hanacard.integration.dto.CardInfoBatchRequest;
+import com.kopo.hanacard.integration.dto.CardInfoBatchResponse;
+import com.kopo.hanacard.integration.dto.CardInfoResponse;
+import com.kopo.hanacard.integration.dto.ConsumptionSummaryResponse;
 import com.kopo.hanacard.integration.service.CardIntegrationService;
+import com.kopo.hanacard.integration.service.CardTransactionStreamWriter;
 import com.kopo.hanacard.user.domain.User;
 import com.kopo.hanacard.user.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +37,7 @@ public class CardIntegrationController {
 
     private final HanamoneyService hanamoneyService;
     private final CardIntegrationService cardIntegrationService;
+    private final CardTransactionStreamWriter cardTransactionStreamWriter;
     private final UserRepository userRepository;
 
     @PostMapping("/hanamoney-info")
@@ -80,7 +91,7 @@ public class CardIntegrationController {
         summary = "카드 정보 조회 (통합)",
         description = "하나그린세상에서 카드 정보를 조회하는 통합 API입니다."
     )
-    public ResponseEntity<Map<String, Object>> getCardInfo(
+    public ResponseEntity<ApiResponse<CardInfoResponse>> getCardInfo(
             @PathVariable Long memberId,
             @RequestParam(defaultValue = "true") Boolean consent) {
         
@@ -91,34 +102,40 @@ public class CardIntegrationController {
             
             log.info("카드 정보 조회 요청 - 회원ID: {}", memberId);
 
-            Map<String, Object> cardData = cardIntegrationService.getCardInfo(memberId);
-            
-            Map<String, Object> response = Map.of(
-                "success", true,
-                "message", "카드 정보 조회 성공",
-                "data", cardData
-            );
-            
-            return ResponseEntity.ok(response);
+            CardInfoResponse cardData = cardIntegrationService.getCardInfo(memberId);
+            return ResponseEntity.ok(ApiResponse.success("카드 정보 조회 성공", cardData));
             
         } catch (Exception e) {
             log.error("카드 정보 조회 실패", e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "카드 정보 조회 실패: " + (e.getMessage() != null ? e.getMessage() : "알 수 없는 오류"));
-            errorResponse.put("data", null);
-            
-            return ResponseEntity.status(500).body(errorResponse);
+            return ResponseEntity.status(500).body(ApiResponse.error(
+                "카드 정보 조회 실패: " + (e.getMessage() != null ? e.getMessage() : "알 수 없는 오류")));
         }
     }
 
+    @PostMapping("/cards/batch")
+    @Operation(
+        summary = "카드 정보 일괄 조회 (통합)",
+        description = "하나그린세상 리더보드, 배치 작업에서 여러 회원의 카드 정보를 한 번에 조회하는 통합 API입니다. "
+            + "memberIds 와 customerInfoTokens 를 합쳐 최대 integration.batch.max-members 명까지 요청할 수 있습니다."
+    )
+    public ResponseEntity<ApiResponse<CardInfoBatchResponse>> getCardInfoBatch(
+            @RequestBody CardInfoBatchRequest request) {
+
+        if (!"GREEN_WORLD".equals(request.getRequestingService())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "허용되지 않은 요청 서비스입니다.");
+        }
+
+        CardInfoBatchResponse batchData = cardIntegrationService.getCardInfoBatch(
+            request.getMemberIds(), request.getCustomerInfoTokens());
+        return ResponseEntity.ok(ApiResponse.success("카드 정보 일괄 조회 성공", batchData));
+    }
+
     @PostMapping("/customer-info")
     @Operation(
         summary = "고객 정보 조회 (통합)",
         description = "하나그린세상에서 고객 정보를 조회하는 통합 API입니다."
     )
-    public ResponseEntity<Map<String, Object>> getCustomerInfo(
+    public ResponseEntity<ApiResponse<CardCustomerInfoResponse>> getCustomerInfo(
             @RequestBody Map<String, String> requestBody) {
         
         try {
@@ -128,58 +145,27 @@ public class CardIntegrationController {
 
             Long userId = extractMemberIdFromRequest(requestBody);
 
-            Map<String, Object> customerData = cardIntegrationService.getCustomerInfo(userId);
-            
-            Map<String, Object> response = Map.of(
-                "success", true,
-                "message", "고객 정보 조회 성공",
-                "data", customerData
-            );
+            CardCustomerInfoResponse customerData = cardIntegrationService.getCustomerInfo(userId);
             
             log.info("고객 정보 조회 성공 - 사용자ID: {}", userId);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(ApiResponse.success("고객 정보 조회 성공", customerData));
             
         } catch (Exception e) {
             log.error("고객 정보 조회 실패", e);
-            
-            Map<String, Object> errorResponse = Map.of(
-                "success", false,
-                "message", "고객 정보 조회 실패: " + e.getMessage(),
-                "data", null
-            );
-            
-            return ResponseEntity.status(500).body(errorResponse);
+            return ResponseEntity.status(500).body(ApiResponse.error("고객 정보 조회 실패: " + e.getMessage()));
         }
     }
 
     @GetMapping("/cards/{memberId}/transactions")
     @Operation(
         summary = "카드 거래내역 조회 (통합)",
-        description = "하나그린세상에서 카드 거래내역을 조회하는 통합 API입니다."
+        description = "하나그린세상에서 카드 거래내역을 조회하는 통합 API입니다. 거래내역은 조회하는 대로 스트리밍됩니다."
     )
-    public ResponseEntity<Map<String, Object>> getCardTransactions(@PathVariable Long memberId) {
-        try {
-            Map<String, Object> transactionData = cardIntegrationService.getCardTransactions(memberId);
-            log.info("[통합 API] 거래내역 조회 결과: {}", transactionData);
-            
-            Map<String, Object> response = Map.of(
-                "success", true,
-                "message", "카드 거래내역 조회 성공",
-                "data", transactionData
-            );
-            
-            log.info("카드 거래내역 조회 성공 - 회원ID: {}", memberId);
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            Map<String, Object> errorResponse = Map.of(
-                "success", false,
-                "message", "카드 거래내역 조회 실패: " + e.getMessage(),
-                "data", null
-            );
-            
-            return ResponseEntity.status(500).body(errorResponse);
-        }
+    public ResponseEntity<StreamingResponseBody> getCardTransactions(@PathVariable Long memberId) {
+        StreamingResponseBody body = out -> cardTransactionStreamWriter.write(memberId, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
     }
 
     @GetMapping("/cards/{memberId}/consumption/summary")
@@ -187,27 +173,13 @@ public class CardIntegrationController {
         summary = "월간 소비현황 조회 (통합)",
         description = "하나그린세상에서 월간 소비현황을 조회하는 통합 API입니다."
     )
-    public ResponseEntity<Map<String, Object>> getConsumptionSummary(@PathVariable Long memberId) {
+    public ResponseEntity<ApiResponse<ConsumptionSummaryResponse>> getConsumptionSummary(@PathVariable Long memberId) {
         try {
-            Map<String, Object> consumptionData = cardIntegrationService.getConsumptionSummary(memberId);
-            log.info("[통합 API] 소비현황 조회 결과: {}", consumptionData);
-            
-            Map<String, Object> response = Map.of(
-                "success", true,
-                "message", "월간 소비현황 조회 성공",
-                "data", consumptionData
-            );
-
-            return ResponseEntity.ok(response);
+            ConsumptionSummaryResponse consumptionData = cardIntegrationService.getConsumptionSummary(memberId);
+            return ResponseEntity.ok(ApiResponse.success("월간 소비현황 조회 성공", consumptionData));
             
         } catch (Exception e) {
-            Map<String, Object> errorResponse = Map.of(
-                "success", false,
-                "message", "월간 소비현황 조회 실패: " + e.getMessage(),
-                "data", null
-            );
-            
-            return ResponseEntity.status(500).body(errorResponse);
+            return ResponseEntity.status(500).body(ApiResponse.error("월간 소비현황 조회 실패: " + e.getMessage()));
         }
     }
 
@@ -21,6 +21,8 @@ public class CardCustomerInfoResponse {
 
     private HanamoneyInfo hanamoneyInfo;
 
+    private List<String> degradedSections; // 제한 시간 안에 채우지 못한 섹션
+
     private LocalDateTime responseTime;
 
     @Getter
@@ -33,13 +35,13 @@ public class CardCustomerInfoResponse {
         private String phoneNumber;
         private String customerGrade; // DIAMOND, PLATINUM, GOLD 등
         private LocalDateTime joinDate;
-        private boolean isActive;
+        private Boolean isActive;
         private BigDecimal totalCreditLimit; // 총 신용한도
         private BigDecimal usedCreditAmount; // 사용한 신용금액
     }
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class CardInfo {
@@ -51,8 +53,20 @@ public class CardCustomerInfoResponse {
         private BigDecimal availableLimit;
         private LocalDateTime issueDate;
         private LocalDateTime expiryDate;
-        private List<String> benefits; // 카드 혜택 목록
+        private List<BenefitInfo> benefits; // 카드 혜택 목록
         private BigDecimal monthlyUsage; // 이번 달 사용금액
+        private List<IntegrationTransactionResponse> transactions;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BenefitInfo {
+        private String benefitType;
+        private String category;
+        private Double cashbackRate;
+        private String description;
     }
 
     @Getter
@@ -60,26 +74,10 @@ public class CardCustomerInfoResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class HanamoneyInfo {
-        private boolean isSubscribed; // 하나머니 가입 여부
-        private String membershipLevel; // BASIC, PREMIUM, VIP
-        private BigDecimal currentPoints; // 현재 포인트
-        private BigDecimal accumulatedPoints; // 누적 포인트
+        private String membershipLevel; // BASIC, SILVER, GOLD, PLATINUM
+        private Long currentPoints; // 현재 포인트
+        private Long accumulatedPoints; // 누적 포인트
+        private Boolean isSubscribed; // 하나머니 가입 여부
         private LocalDateTime joinDate;
-        private BigDecimal monthlyEarnings; // 이번 달 적립 포인트
-        private List<String> availableBenefits; // 사용 가능한 혜택
     }
 }
-
-
-
-
-
-
-
-
-
-
-
-
-
-
@@ -0,0 +1,21 @@
+package com.kopo.hanacard.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardInfoBatchRequest {
+
+    private String requestingService;
+
+    private List<Long> memberIds;
+
+    private List<String> customerInfoTokens; // Base64 로 인코딩된 CI
+}
@@ -0,0 +1,32 @@
+package com.kopo.hanacard.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardInfoBatchResponse {
+
+    private int requestedCount;
+
+    private int foundCount;
+
+    private List<MemberResult> results; // 요청 순서 (memberIds 다음 customerInfoTokens)
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberResult {
+        private Long memberId; // 토큰으로 요청한 경우 찾은 회원 ID
+        private String customerInfoToken; // 토큰으로 요청한 경우에만 채운다
+        private boolean found;
+        private CardInfoResponse cardInfo;
+    }
+}
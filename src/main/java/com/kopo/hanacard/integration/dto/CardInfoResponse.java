@@ -0,0 +1,55 @@
+package com.kopo.hanacard.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardInfoResponse {
+
+    private List<CardItem> cards;
+
+    private CardSummary summary;
+
+    private LocalDateTime responseTime;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CardItem {
+        private String cardNumber; // 마스킹된 카드번호
+        private String cardName;
+        private String cardType;
+        private String cardStatus;
+        private BigDecimal creditLimit;
+        private BigDecimal availableLimit;
+        private BigDecimal monthlyUsage;
+        private LocalDateTime issueDate;
+        private LocalDateTime expiryDate;
+        private List<String> benefits;
+        private String cardImageUrl;
+        private String cardImageBase64;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CardSummary {
+        private int totalCardCount;
+        private int activeCardCount;
+        private BigDecimal totalCreditLimit;
+        private BigDecimal totalAvailableLimit;
+        private BigDecimal monthlyTotalUsage;
+        private String primaryCardType;
+    }
+}
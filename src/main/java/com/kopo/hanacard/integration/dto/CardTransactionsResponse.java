@@ -0,0 +1,18 @@
+package com.kopo.hanacard.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardTransactionsResponse {
+    private Long userId;
+    private List<IntegrationTransactionResponse> transactions;
+    private int totalCount;
+}
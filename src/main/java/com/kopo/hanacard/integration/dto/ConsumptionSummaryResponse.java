@@ -0,0 +1,19 @@
+package com.kopo.hanacard.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumptionSummaryResponse {
+    private long totalAmount;
+    private long totalCashback;
+    private Map<String, Long> categoryAmounts; // 이번 달 카테고리별 소비 금액
+    private Long userId;
+}
@@ -0,0 +1,35 @@
+package com.kopo.hanacard.integration.dto;
+
+import com.kopo.hanacard.card.domain.CardTransaction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntegrationTransactionResponse {
+    private String transactionDate;
+    private String merchantName;
+    private String category;
+    private Long amount;
+    private Long cashbackAmount;
+    private Double cashbackRate;
+    private String description;
+    private String merchantCategory;
+
+    public static IntegrationTransactionResponse from(CardTransaction transaction) {
+        return IntegrationTransactionResponse.builder()
+                .transactionDate(transaction.getTransactionDate().toString())
+                .merchantName(transaction.getMerchantName())
+                .category(transaction.getCategory())
+                .amount(transaction.getAmount())
+                .cashbackAmount(transaction.getCashbackAmount())
+                .cashbackRate(transaction.getCashbackRate().doubleValue())
+                .description(transaction.getDescription())
+                .merchantCategory(transaction.getMerchantCategory())
+                .build();
+    }
+}
@@ -1,23 +1,43 @@
 package com.kopo.hanacard.integration.service;
 
+import com.kopo.hanacard.card.domain.CardConsumptionMonthly;
 import com.kopo.hanacard.card.domain.UserCard;
 import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.repository.CardConsumptionMonthlyRepository;
 import com.kopo.hanacard.card.repository.UserCardRepository;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyMembershipRepository;
 import com.kopo.hanacard.card.repository.CardTransactionRepository;
+import com.kopo.hanacard.common.cache.NearCache;
+import com.kopo.hanacard.common.exception.BusinessException;
+import com.kopo.hanacard.common.exception.ErrorCode;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import com.kopo.hanacard.integration.dto.CardCustomerInfoResponse;
+import com.kopo.hanacard.integration.dto.CardInfoBatchResponse;
+import com.kopo.hanacard.integration.dto.CardInfoResponse;
+import com.kopo.hanacard.integration.dto.ConsumptionSummaryResponse;
+import com.kopo.hanacard.integration.dto.IntegrationTransactionResponse;
 import com.kopo.hanacard.user.domain.User;
 import com.kopo.hanacard.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,79 +47,204 @@ public class CardIntegrationService {
     private final UserCardRepository userCardRepository;
     private final CardTransactionRepository cardTransactionRepository;
     private final UserRepository userRepository;
+    private final CardConsumptionMonthlyRepository cardConsumptionMonthlyRepository;
+    private final HanamoneyMembershipRepository hanamoneyMembershipRepository;
+    private final ParallelSectionLoader parallelSectionLoader;
+    private final IntegrationReadCache integrationReadCache;
 
-    public Map<String, Object> getCardInfo(Long memberId) {
+    // 고객 통합 정보에 싣는 거래 범위
+    @Value("${integration.customer-info.transaction-days:90}")
+    private int customerInfoTransactionDays;
+
+    @Value("${integration.customer-info.max-transactions-per-card:50}")
+    private int customerInfoMaxTransactionsPerCard;
+
+    @Value("${integration.customer-info.parallel.enabled:true}")
+    private boolean parallelEnabled;
+
+    @Value("${integration.customer-info.parallel.section-timeout-ms:800}")
+    private long sectionTimeoutMs;
+
+    // Oracle IN 절 1000개 제한보다 작게 둔다
+    @Value("${integration.batch.max-members:500}")
+    private int batchMaxMembers;
+
+    public CardInfoResponse getCardInfo(Long memberId) {
         try {
-            // 사용자 조회
-            Optional<User> userOpt = userRepository.findById(memberId);
-            if (userOpt.isEmpty()) {
-                return createEmptyCardResponse();
+            return integrationReadCache.getCardInfo().get(memberId, () -> loadCardInfo(memberId));
+        } catch (Exception e) {
+            return createEmptyCardResponse();
+        }
+    }
+
+    private CardInfoResponse loadCardInfo(Long memberId) {
+        // 사용자 조회
+        Optional<User> userOpt = userRepository.findById(memberId);
+        if (userOpt.isEmpty()) {
+            return createEmptyCardResponse();
+        }
+
+        return toCardInfoResponse(userCardRepository.findByUserIdAndIsActive(memberId, true));
+    }
+
+    /**
+     * 여러 회원의 카드 정보를 한 번에 조회한다. 회원 확인은 ID, CI 별로 IN 쿼리 한 번씩,
+     * 캐시에 없는 회원의 카드와 상품은 fetch join 한 번으로 읽는다.
+     */
+    public CardInfoBatchResponse getCardInfoBatch(List<Long> memberIds, List<String> customerInfoTokens) {
+        List<Long> requestedIds = memberIds == null ? List.of() : List.copyOf(new LinkedHashSet<>(memberIds));
+        List<String> requestedTokens = customerInfoTokens == null ? List.of() : List.copyOf(new LinkedHashSet<>(customerInfoTokens));
+        int requestedCount = requestedIds.size() + requestedTokens.size();
+        if (requestedCount == 0) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "조회할 회원이 없습니다.");
+        }
+        if (requestedCount > batchMaxMembers) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                "한 번에 조회할 수 있는 회원은 최대 " + batchMaxMembers + "명입니다.");
+        }
+
+        // 회원 확인
+        Map<String, String> ciByToken = new LinkedHashMap<>();
+        for (String token : requestedTokens) {
+            try {
+                ciByToken.put(token, new String(Base64.getDecoder().decode(token)));
+            } catch (IllegalArgumentException e) {
+                log.warn("유효하지 않은 고객 정보 토큰 - 일괄 조회에서 제외");
             }
+        }
+        Set<Long> existingIds = requestedIds.isEmpty()
+            ? Set.of()
+            : userRepository.findByIdIn(requestedIds).stream().map(User::getId).collect(Collectors.toSet());
+        Map<String, Long> userIdByCi = ciByToken.isEmpty()
+            ? Map.of()
+            : userRepository.findByCiIn(new LinkedHashSet<>(ciByToken.values())).stream()
+                .collect(Collectors.toMap(User::getCi, User::getId, (first, second) -> first));
 
-            User user = userOpt.get();
+        Set<Long> userIds = new LinkedHashSet<>(existingIds);
+        userIds.addAll(userIdByCi.values());
 
-            List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(memberId);
-            
-            List<Map<String, Object>> cards = new ArrayList<>();
-            BigDecimal totalCreditLimit = BigDecimal.ZERO;
-            BigDecimal totalAvailableLimit = BigDecimal.ZERO;
-            BigDecimal monthlyTotalUsage = BigDecimal.ZERO;
-            
-            for (UserCard userCard : userCards) {
-                // 카드 정보 매핑
-                BigDecimal creditLimit = new BigDecimal(userCard.getCardProduct().getCreditLimit());
-                BigDecimal availableLimit = creditLimit.subtract(new BigDecimal("1000000")); // 임시 계산
-                
-                Map<String, Object> cardInfo = new HashMap<>();
-                cardInfo.put("cardNumber", userCard.getCardNumberMasked());
-                cardInfo.put("cardName", userCard.getCardProduct().getProductName());
-                cardInfo.put("cardType", userCard.getCardProduct().getProductType());
-                cardInfo.put("cardStatus", userCard.getIsActive() ? "ACTIVE" : "INACTIVE");
-                cardInfo.put("creditLimit", creditLimit);
-                cardInfo.put("availableLimit", availableLimit);
-                cardInfo.put("monthlyUsage", new BigDecimal("1000000")); // 임시 데이터
-                cardInfo.put("issueDate", userCard.getCreatedAt());
-                cardInfo.put("expiryDate", userCard.getExpiryDate().atStartOfDay());
-                cardInfo.put("benefits", List.of("주유할인 5%", "커피할인 30%", "친환경 적립")); // 임시 데이터
-                // 실제 카드 이미지 URL 사용 (데이터베이스에 저장된 이미지 URL)
-                String cardImageUrl = userCard.getCardProduct().getImageUrl();
-                if (cardImageUrl == null || cardImageUrl.isEmpty()) {
-                    // 이미지 URL이 없으면 기본 placeholder 사용
-                    cardImageUrl = "https://via.placeholder.com/300x200/138072/FFFFFF?text=" + userCard.getCardProduct().getProductName().replace(" ", "+");
-                }
-                cardInfo.put("cardImageUrl", cardImageUrl);
-                cardInfo.put("cardImageBase64", null);
-                
-                cards.add(cardInfo);
-                
-                // 합계 계산
-                totalCreditLimit = totalCreditLimit.add(creditLimit);
-                totalAvailableLimit = totalAvailableLimit.add(availableLimit);
-                monthlyTotalUsage = monthlyTotalUsage.add(new BigDecimal("1000000"));
+        // 캐시에 없는 회원만 조회
+        NearCache<Long, CardInfoResponse> cache = integrationReadCache.getCardInfo();
+        Map<Long, CardInfoResponse> cardInfoByUser = new HashMap<>();
+        List<Long> missingUserIds = new ArrayList<>();
+        for (Long userId : userIds) {
+            CardInfoResponse cached = cache.getIfPresent(userId);
+            if (cached != null) {
+                cardInfoByUser.put(userId, cached);
+            } else {
+                missingUserIds.add(userId);
+            }
+        }
+
+        if (!missingUserIds.isEmpty()) {
+            long epoch = cache.currentEpoch();
+            Map<Long, List<UserCard>> cardsByUser = userCardRepository.findActiveWithProductByUserIdIn(missingUserIds).stream()
+                .collect(Collectors.groupingBy(userCard -> userCard.getUser().getId()));
+            for (Long userId : missingUserIds) {
+                CardInfoResponse cardInfo = toCardInfoResponse(cardsByUser.getOrDefault(userId, List.of()));
+                cardInfoByUser.put(userId, cardInfo);
+                cache.putIfCurrent(userId, cardInfo, epoch);
             }
+        }
+
+        List<CardInfoBatchResponse.MemberResult> results = new ArrayList<>(requestedCount);
+        for (Long memberId : requestedIds) {
+            results.add(CardInfoBatchResponse.MemberResult.builder()
+                .memberId(memberId)
+                .found(existingIds.contains(memberId))
+                .cardInfo(cardInfoByUser.get(memberId))
+                .build());
+        }
+        for (String token : requestedTokens) {
+            String ci = ciByToken.get(token);
+            Long userId = ci == null ? null : userIdByCi.get(ci);
+            results.add(CardInfoBatchResponse.MemberResult.builder()
+                .memberId(userId)
+                .customerInfoToken(token)
+                .found(userId != null)
+                .cardInfo(userId == null ? null : cardInfoByUser.get(userId))
+                .build());
+        }
+
+        int foundCount = (int) results.stream().filter(CardInfoBatchResponse.MemberResult::isFound).count();
+        log.info("카드 정보 일괄 조회 - 요청: {}, 확인된 회원: {}, 캐시 적중: {}",
+            requestedCount, foundCount, userIds.size() - missingUserIds.size());
+
+        return CardInfoBatchResponse.builder()
+            .requestedCount(requestedCount)
+            .foundCount(foundCount)
+            .results(results)
+            .build();
+    }
+
+    private CardInfoResponse toCardInfoResponse(List<UserCard> userCards) {
+        List<CardInfoResponse.CardItem> cards = new ArrayList<>();
+        BigDecimal totalCreditLimit = BigDecimal.ZERO;
+        BigDecimal totalAvailableLimit = BigDecimal.ZERO;
+        BigDecimal monthlyTotalUsage = BigDecimal.ZERO;
+        
+        for (UserCard userCard : userCards) {
+            // 카드 정보 매핑
+            BigDecimal creditLimit = new BigDecimal(userCard.getCardProduct().getCreditLimit());
+            BigDecimal availableLimit = creditLimit.subtract(new BigDecimal("1000000")); // 임시 계산
             
-            // 요약 정보 생성
-            Map<String, Object> summary = Map.of(
-                "totalCardCount", cards.size(),
-                "activeCardCount", cards.size(),
-                "totalCreditLimit", totalCreditLimit,
-                "totalAvailableLimit", totalAvailableLimit,
-                "monthlyTotalUsage", monthlyTotalUsage,
-                "primaryCardType", cards.isEmpty() ? "NONE" : cards.get(0).get("cardType")
-            );
+            // 실제 카드 이미지 URL 사용 (데이터베이스에 저장된 이미지 URL)
+            String cardImageUrl = userCard.getCardProduct().getImageUrl();
+            if (cardImageUrl == null || cardImageUrl.isEmpty()) {
+                // 이미지 URL이 없으면 기본 placeholder 사용
+                cardImageUrl = "https://via.placeholder.com/300x200/138072/FFFFFF?text=" + userCard.getCardProduct().getProductName().replace(" ", "+");
+            }
 
-            return Map.of(
-                "cards", cards,
-                "summary", summary,
-                "responseTime", LocalDateTime.now()
-            );
+            cards.add(CardInfoResponse.CardItem.builder()
+                .cardNumber(userCard.getCardNumberMasked())
+                .cardName(userCard.getCardProduct().getProductName())
+                .cardType(userCard.getCardProduct().getProductType())
+                .cardStatus(userCard.getIsActive() ? "ACTIVE" : "INACTIVE")
+                .creditLimit(creditLimit)
+                .availableLimit(availableLimit)
+                .monthlyUsage(new BigDecimal("1000000")) // 임시 데이터
+                .issueDate(userCard.getCreatedAt())
+                .expiryDate(userCard.getExpiryDate().atStartOfDay())
+                .benefits(List.of("주유할인 5%", "커피할인 30%", "친환경 적립")) // 임시 데이터
+                .cardImageUrl(cardImageUrl)
+                .cardImageBase64(null)
+                .build());
             
-        } catch (Exception e) {
-            return createEmptyCardResponse();
+            // 합계 계산
+            totalCreditLimit = totalCreditLimit.add(creditLimit);
+            totalAvailableLimit = totalAvailableLimit.add(availableLimit);
+            monthlyTotalUsage = monthlyTotalUsage.add(new BigDecimal("1000000"));
         }
+        
+        // 요약 정보 생성
+        CardInfoResponse.CardSummary summary = CardInfoResponse.CardSummary.builder()
+            .totalCardCount(cards.size())
+            .activeCardCount(cards.size())
+            .totalCreditLimit(totalCreditLimit)
+            .totalAvailableLimit(totalAvailableLimit)
+            .monthlyTotalUsage(monthlyTotalUsage)
+            .primaryCardType(cards.isEmpty() ? "NONE" : cards.get(0).getCardType())
+            .build();
+
+        return CardInfoResponse.builder()
+            .cards(cards)
+            .summary(summary)
+            .responseTime(LocalDateTime.now())
+            .build();
     }
 
-    public Map<String, Object> getCustomerInfo(Long userId) {
+    /**
+     * 하나그린세상 앱 진입 시마다 호출되는 고객 통합 정보.
+     * 사용자 확인 뒤 카드, 거래, 하나머니 섹션을 각자의 읽기 전용 트랜잭션에서 동시에 조회하고,
+     * 제한 시간을 넘긴 섹션은 비워서 응답하며 degradedSections 로 알린다.
+     */
+    public CardCustomerInfoResponse getCustomerInfo(Long userId) {
+        // 일부 섹션이 빠진 응답이나 조회 실패 응답은 캐시하지 않는다
+        return integrationReadCache.getCustomerInfo().get(userId, () -> loadCustomerInfo(userId),
+            response -> response.getDegradedSections() != null && response.getDegradedSections().isEmpty());
+    }
+
+    private CardCustomerInfoResponse loadCustomerInfo(Long userId) {
         try {
             // 사용자 조회
             Optional<User> userOpt = userRepository.findById(userId);
@@ -110,62 +255,51 @@ public class CardIntegrationService {
             User user = userOpt.get();
             log.info("사용자 정보 조회 완료 - 이름: {}, 이메일: {}, 전화번호: {}",
                     user.getName(), user.getEmail(), user.getPhoneNumber());
-            
-            // 사용자의 활성 카드 조회
-            List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
-            log.info("조회된 카드 수: {}", userCards.size());
+
+            // 섹션 동시 조회
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+            CompletableFuture<Map<Long, CardCustomerInfoResponse.CardInfo>> cardsFuture =
+                parallelSectionLoader.load(() -> loadCardSection(userId), parallelEnabled, deadline);
+            CompletableFuture<Map<Long, List<IntegrationTransactionResponse>>> transactionsFuture =
+                parallelSectionLoader.load(() -> loadTransactionSection(userId), parallelEnabled, deadline);
+            CompletableFuture<CardCustomerInfoResponse.HanamoneyInfo> hanamoneyFuture =
+                parallelSectionLoader.load(() -> loadHanamoneySection(userId), parallelEnabled, deadline);
+
+            List<String> degradedSections = new ArrayList<>();
+            Map<Long, CardCustomerInfoResponse.CardInfo> cardsById = parallelSectionLoader.await(
+                "cards", cardsFuture, deadline, Map.of(), degradedSections);
+            Map<Long, List<IntegrationTransactionResponse>> transactionsByCard = parallelSectionLoader.await(
+                "transactions", transactionsFuture, deadline, Map.of(), degradedSections);
+            CardCustomerInfoResponse.HanamoneyInfo hanamoneyInfo = parallelSectionLoader.await(
+                "hanamoney", hanamoneyFuture, deadline, createEmptyHanamoneyInfo(), degradedSections);
             
             // 고객 기본 정보
-            Map<String, Object> customerInfo = Map.of(
-                "name", user.getName(),
-                "email", user.getEmail(),
-                "phoneNumber", user.getPhoneNumber(),
-                "customerGrade", "GOLD", // 임시 등급
-                "joinDate", user.getCreatedAt(),
-                "isActive", true,
-                "totalCreditLimit", new BigDecimal("50000000"), // 임시 데이터
-                "usedCreditAmount", new BigDecimal("10000000") // 임시 데이터
-            );
+            CardCustomerInfoResponse.CustomerBasicInfo customerInfo = CardCustomerInfoResponse.CustomerBasicInfo.builder()
+                .name(user.getName())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .customerGrade("GOLD") // 임시 등급
+                .joinDate(user.getCreatedAt())
+                .isActive(true)
+                .totalCreditLimit(new BigDecimal("50000000")) // 임시 데이터
+                .usedCreditAmount(new BigDecimal("10000000")) // 임시 데이터
+                .build();
             
             // 카드 정보 목록
-            List<Map<String, Object>> cards = new ArrayList<>();
-            for (UserCard userCard : userCards) {
-                List<Map<String, Object>> cardBenefits = getCardBenefits(userCard.getCardProduct().getProductId());
-
-                List<Map<String, Object>> cardTransactions = getCardTransactionsInternal(userId, userCard.getId());
-                
-                Map<String, Object> cardInfo = new HashMap<>();
-                cardInfo.put("cardNumber", userCard.getCardNumberMasked());
-                cardInfo.put("cardName", userCard.getCardProduct().getProductName());
-                cardInfo.put("cardType", userCard.getCardProduct().getProductType());
-                cardInfo.put("cardStatus", userCard.getIsActive() ? "ACTIVE" : "INACTIVE");
-                cardInfo.put("creditLimit", new BigDecimal(userCard.getCardProduct().getCreditLimit()));
-                cardInfo.put("availableLimit", new BigDecimal("40000000")); // 임시 데이터
-                cardInfo.put("issueDate", userCard.getCreatedAt());
-                cardInfo.put("expiryDate", userCard.getExpiryDate().atStartOfDay());
-                cardInfo.put("benefits", cardBenefits); // 실제 혜택 데이터
-                cardInfo.put("transactions", cardTransactions); // 실제 거래내역 데이터
-                cardInfo.put("monthlyUsage", new BigDecimal("1000000")); // 임시 데이터
-                cards.add(cardInfo);
-            }
-            
-            // 하나머니 정보 (임시 데이터)
-            Map<String, Object> hanamoneyInfo = Map.of(
-                "membershipLevel", "GOLD",
-                "currentPoints", 50000,
-                "accumulatedPoints", 200000,
-                "isSubscribed", true,
-                "joinDate", user.getCreatedAt()
-            );
+            List<CardCustomerInfoResponse.CardInfo> cards = new ArrayList<>();
+            cardsById.forEach((cardId, cardSection) -> cards.add(cardSection.toBuilder()
+                .transactions(transactionsByCard.getOrDefault(cardId, List.of())) // 실제 거래내역 데이터
+                .build()));
             
-            log.info("고객 정보 조회 완료 - 사용자ID: {}, 카드 수: {}", userId, cards.size());
+            log.info("고객 정보 조회 완료 - 사용자ID: {}, 카드 수: {}, 지연 섹션: {}", userId, cards.size(), degradedSections);
             
-            return Map.of(
-                "customerInfo", customerInfo,
-                "cards", cards,
-                "hanamoneyInfo", hanamoneyInfo,
-                "responseTime", LocalDateTime.now()
-            );
+            return CardCustomerInfoResponse.builder()
+                .customerInfo(customerInfo)
+                .cards(cards)
+                .hanamoneyInfo(hanamoneyInfo)
+                .degradedSections(degradedSections)
+                .responseTime(LocalDateTime.now())
+                .build();
             
         } catch (Exception e) {
             log.error("고객 정보 조회 실패 - 사용자ID: {}", userId, e);
@@ -173,21 +307,69 @@ public class CardIntegrationService {
         }
     }
 
-    private List<Map<String, Object>> getCardBenefits(Long productId) {
+    // 카드 id 순서를 유지한 카드 정보 (거래내역 제외)
+    private Map<Long, CardCustomerInfoResponse.CardInfo> loadCardSection(Long userId) {
+        // 사용자의 활성 카드 조회 (카드 상품 함께 조회)
+        List<UserCard> userCards = userCardRepository.findByUserIdAndIsActive(userId, true);
+        log.info("조회된 카드 수: {}", userCards.size());
+
+        Map<Long, CardCustomerInfoResponse.CardInfo> cardsById = new LinkedHashMap<>();
+        for (UserCard userCard : userCards) {
+            cardsById.put(userCard.getId(), CardCustomerInfoResponse.CardInfo.builder()
+                .cardNumber(userCard.getCardNumberMasked())
+                .cardName(userCard.getCardProduct().getProductName())
+                .cardType(userCard.getCardProduct().getProductType())
+                .cardStatus(userCard.getIsActive() ? "ACTIVE" : "INACTIVE")
+                .creditLimit(new BigDecimal(userCard.getCardProduct().getCreditLimit()))
+                .availableLimit(new BigDecimal("40000000")) // 임시 데이터
+                .issueDate(userCard.getCreatedAt())
+                .expiryDate(userCard.getExpiryDate().atStartOfDay())
+                .benefits(getCardBenefits(userCard.getCardProduct().getProductId())) // 실제 혜택 데이터
+                .monthlyUsage(new BigDecimal("1000000")) // 임시 데이터
+                .build());
+        }
+        return cardsById;
+    }
+
+    // 전체 활성 카드의 최근 거래를 한 번에 조회해 카드별로 나눈다
+    private Map<Long, List<IntegrationTransactionResponse>> loadTransactionSection(Long userId) {
+        return groupTransactionsByCard(
+            cardTransactionRepository.findRecentByActiveCardsOfUser(
+                userId, LocalDateTime.now().minusDays(customerInfoTransactionDays)),
+            customerInfoMaxTransactionsPerCard);
+    }
+
+    private CardCustomerInfoResponse.HanamoneyInfo loadHanamoneySection(Long userId) {
+        return hanamoneyMembershipRepository.findByUser_Id(userId)
+            .map(this::toHanamoneyInfo)
+            .orElseGet(this::createEmptyHanamoneyInfo);
+    }
+
+    private CardCustomerInfoResponse.HanamoneyInfo toHanamoneyInfo(HanamoneyMembership membership) {
+        return CardCustomerInfoResponse.HanamoneyInfo.builder()
+            .membershipLevel(membership.getMembershipLevel())
+            .currentPoints(membership.getBalance())
+            .accumulatedPoints(membership.getTotalEarned())
+            .isSubscribed(membership.isActive())
+            .joinDate(membership.getCreatedAt())
+            .build();
+    }
+
+    private List<CardCustomerInfoResponse.BenefitInfo> getCardBenefits(Long productId) {
         try {
             return List.of(
-                Map.of(
-                    "benefitType", "친환경 교통",
-                    "category", "대중교통",
-                    "cashbackRate", 2.0,
-                    "description", "지하철, 버스 이용 시 2% 캐시백"
-                ),
-                Map.of(
-                    "benefitType", "친환경 가맹점",
-                    "category", "쇼핑",
-                    "cashbackRate", 1.5,
-                    "description", "친환경 가맹점에서 1.5% 캐시백"
-                )
+                CardCustomerInfoResponse.BenefitInfo.builder()
+                    .benefitType("친환경 교통")
+                    .category("대중교통")
+                    .cashbackRate(2.0)
+                    .description("지하철, 버스 이용 시 2% 캐시백")
+                    .build(),
+                CardCustomerInfoResponse.BenefitInfo.builder()
+                    .benefitType("친환경 가맹점")
+                    .category("쇼핑")
+                    .cashbackRate(1.5)
+                    .description("친환경 가맹점에서 1.5% 캐시백")
+                    .build()
             );
         } catch (Exception e) {
             log.error("카드 혜택 조회 실패 - 상품ID: {}", productId, e);
@@ -195,147 +377,113 @@ public class CardIntegrationService {
         }
     }
 
-    public Map<String, Object> getCardTransactions(Long userId) {
-        log.info("카드 거래내역 조회 시작 - 사용자ID: {}", userId);
-        
+    public ConsumptionSummaryResponse getConsumptionSummary(Long userId) {
         try {
-            // 사용자 카드 조회
-            List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
-            
-            List<Map<String, Object>> allTransactions = new ArrayList<>();
-            
-            for (UserCard userCard : userCards) {
-                List<Map<String, Object>> cardTransactions = getCardTransactionsInternal(userId, userCard.getId());
-                allTransactions.addAll(cardTransactions);
-            }
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("transactions", allTransactions);
-            response.put("totalCount", allTransactions.size());
-            response.put("userId", userId);
-            
-            log.info("카드 거래내역 조회 성공 - 사용자ID: {}, 거래건수: {}", userId, allTransactions.size());
-            return response;
-            
+            return integrationReadCache.getConsumptionSummary().get(userId, () -> loadConsumptionSummary(userId));
         } catch (Exception e) {
-            log.error("카드 거래내역 조회 실패 - 사용자ID: {}", userId, e);
-            return Map.of("transactions", new ArrayList<>(), "totalCount", 0, "userId", userId);
+            return ConsumptionSummaryResponse.builder()
+                .categoryAmounts(Map.of())
+                .userId(userId)
+                .build();
         }
     }
-    
 
-    public Map<String, Object> getConsumptionSummary(Long userId) {
+    private ConsumptionSummaryResponse loadConsumptionSummary(Long userId) {
         log.info("월간 소비현황 조회 시작 - 사용자ID: {}", userId);
         
-        try {
-            // 사용자 카드 조회
-            List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
-            
-            // 이번 달 첫날부터 현재까지
-            LocalDateTime startOfMonth = YearMonth.now().atDay(1).atStartOfDay();
-            LocalDateTime endOfMonth = LocalDateTime.now();
-            
-            // 카테고리별 소비 금액 계산
-            Map<String, Long> categoryAmounts = new HashMap<>();
-            long totalAmount = 0;
-            long totalCashback = 0;
-            
-            for (UserCard userCard : userCards) {
-                // 이번달 거래내역만 조회
-                List<CardTransaction> monthlyTransactions = cardTransactionRepository
-                    .findByUserCardAndTransactionDateBetweenOrderByTransactionDateDesc(
-                        userCard, startOfMonth, endOfMonth);
-                
-                for (CardTransaction transaction : monthlyTransactions) {
-                    String category = transaction.getCategory();
-                    Long amount = transaction.getAmount();
-                    Long cashback = transaction.getCashbackAmount();
-                    
-                    categoryAmounts.merge(category, amount, Long::sum);
-                    totalAmount += amount;
-                    totalCashback += cashback;
-                }
-            }
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("totalAmount", totalAmount);
-            response.put("totalCashback", totalCashback);
-            response.put("categoryAmounts", categoryAmounts);
-            response.put("userId", userId);
-            
-            log.info("월간 소비현황 조회 성공 - 사용자ID: {}, 총소비: {}, 총캐시백: {}, 이번달 거래건수: {}",
-                    userId, totalAmount, totalCashback, categoryAmounts.values().stream().mapToLong(Long::longValue).sum());
-            return response;
-            
-        } catch (Exception e) {
-            return Map.of("totalAmount", 0, "totalCashback", 0, "categoryAmounts", new HashMap<>(), "userId", userId);
+        // 사용자 카드 조회
+        List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
+        
+        List<Long> userCardIds = toCardIds(userCards);
+
+        // 카테고리별 소비 금액 계산 (이번 달 월별 집계)
+        Map<String, Long> categoryAmounts = new HashMap<>();
+        long totalAmount = 0;
+        long totalCashback = 0;
+        long transactionCount = 0;
+
+        List<CardConsumptionMonthly> aggregates = userCardIds.isEmpty()
+            ? List.of()
+            : cardConsumptionMonthlyRepository.findByUserCardIdInAndYearMonth(userCardIds, YearMonth.now().toString());
+
+        for (CardConsumptionMonthly aggregate : aggregates) {
+            categoryAmounts.merge(aggregate.getCategory(), aggregate.getTotalAmount(), Long::sum);
+            totalAmount += aggregate.getTotalAmount();
+            totalCashback += aggregate.getTotalCashback();
+            transactionCount += aggregate.getTxCount();
         }
+        
+        log.info("월간 소비현황 조회 성공 - 사용자ID: {}, 총소비: {}, 총캐시백: {}, 이번달 거래건수: {}",
+                userId, totalAmount, totalCashback, transactionCount);
+        return ConsumptionSummaryResponse.builder()
+            .totalAmount(totalAmount)
+            .totalCashback(totalCashback)
+            .categoryAmounts(categoryAmounts)
+            .userId(userId)
+            .build();
     }
 
-    private List<Map<String, Object>> getCardTransactionsInternal(Long userId, Long cardId) {
-        try {
-            UserCard userCard = userCardRepository.findById(cardId)
-                .orElseThrow(() -> new RuntimeException("사용자 카드를 찾을 수 없습니다: " + cardId));
-
-            List<CardTransaction> transactions = cardTransactionRepository.findByUserCard(userCard);
-
-            List<Map<String, Object>> result = new ArrayList<>();
-            for (CardTransaction transaction : transactions) {
-                Map<String, Object> transactionMap = new HashMap<>();
-                transactionMap.put("transactionDate", transaction.getTransactionDate().toString());
-                transactionMap.put("merchantName", transaction.getMerchantName());
-                transactionMap.put("category", transaction.getCategory());
-                transactionMap.put("amount", transaction.getAmount().longValue());
-                transactionMap.put("cashbackAmount", transaction.getCashbackAmount().longValue());
-                transactionMap.put("cashbackRate", transaction.getCashbackRate().doubleValue());
-                transactionMap.put("description", transaction.getDescription());
-                transactionMap.put("merchantCategory", transaction.getMerchantCategory());
-
-                result.add(transactionMap);
+    private List<Long> toCardIds(List<UserCard> userCards) {
+        return userCards.stream()
+            .map(UserCard::getId)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 카드 id 순으로 정렬된 거래 목록을 카드별로 나눈다. 카드당 최대 maxPerCard 건까지만 담는다.
+     */
+    private Map<Long, List<IntegrationTransactionResponse>> groupTransactionsByCard(List<CardTransaction> transactions, int maxPerCard) {
+        Map<Long, List<IntegrationTransactionResponse>> result = new HashMap<>();
+        for (CardTransaction transaction : transactions) {
+            List<IntegrationTransactionResponse> cardTransactions =
+                result.computeIfAbsent(transaction.getUserCard().getId(), id -> new ArrayList<>());
+            if (cardTransactions.size() < maxPerCard) {
+                cardTransactions.add(IntegrationTransactionResponse.from(transaction));
             }
-            return result;
-            
-        } catch (Exception e) {
-            return new ArrayList<>();
         }
+        return result;
+    }
+
+    private CardInfoResponse createEmptyCardResponse() {
+        return CardInfoResponse.builder()
+            .cards(List.of())
+            .summary(CardInfoResponse.CardSummary.builder()
+                .totalCardCount(0)
+                .activeCardCount(0)
+                .totalCreditLimit(BigDecimal.ZERO)
+                .totalAvailableLimit(BigDecimal.ZERO)
+                .monthlyTotalUsage(BigDecimal.ZERO)
+                .primaryCardType("NONE")
+                .build())
+            .responseTime(LocalDateTime.now())
+            .build();
     }
 
-    private Map<String, Object> createEmptyCardResponse() {
-        return Map.of(
-            "cards", List.of(),
-            "summary", Map.of(
-                "totalCardCount", 0,
-                "activeCardCount", 0,
-                "totalCreditLimit", BigDecimal.ZERO,
-                "totalAvailableLimit", BigDecimal.ZERO,
-                "monthlyTotalUsage", BigDecimal.ZERO,
-                "primaryCardType", "NONE"
-            ),
-            "responseTime", LocalDateTime.now()
-        );
+    private CardCustomerInfoResponse createEmptyCustomerResponse() {
+        return CardCustomerInfoResponse.builder()
+            .customerInfo(CardCustomerInfoResponse.CustomerBasicInfo.builder()
+                .name("")
+                .email("")
+                .phoneNumber("")
+                .customerGrade("NONE")
+                .joinDate(LocalDateTime.now())
+                .isActive(false)
+                .totalCreditLimit(BigDecimal.ZERO)
+                .usedCreditAmount(BigDecimal.ZERO)
+                .build())
+            .cards(List.of())
+            .hanamoneyInfo(createEmptyHanamoneyInfo())
+            .responseTime(LocalDateTime.now())
+            .build();
     }
 
-    private Map<String, Object> createEmptyCustomerResponse() {
-        return Map.of(
-            "customerInfo", Map.of(
-                "name", "",
-                "email", "",
-                "phoneNumber", "",
-                "customerGrade", "NONE",
-                "joinDate", LocalDateTime.now(),
-                "isActive", false,
-                "totalCreditLimit", BigDecimal.ZERO,
-                "usedCreditAmount", BigDecimal.ZERO
-            ),
-            "cards", List.of(),
-            "hanamoneyInfo", Map.of(
-                "membershipLevel", "NONE",
-                "currentPoints", 0,
-                "accumulatedPoints", 0,
-                "isSubscribed", false,
-                "joinDate", LocalDateTime.now()
-            ),
-            "responseTime", LocalDateTime.now()
-        );
+    private CardCustomerInfoResponse.HanamoneyInfo createEmptyHanamoneyInfo() {
+        return CardCustomerInfoResponse.HanamoneyInfo.builder()
+            .membershipLevel("NONE")
+            .currentPoints(0L)
+            .accumulatedPoints(0L)
+            .isSubscribed(false)
+            .joinDate(LocalDateTime.now())
+            .build();
     }
-}
\ No newline at end of file
+}
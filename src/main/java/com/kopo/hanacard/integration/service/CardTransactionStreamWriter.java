@@ -0,0 +1,140 @@
+package com.kopo.hanacard.integration.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.repository.CardTransactionRepository;
+import com.kopo.hanacard.common.cache.NearCache;
+import com.kopo.hanacard.integration.dto.CardTransactionsResponse;
+import com.kopo.hanacard.integration.dto.IntegrationTransactionResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 통합 거래내역 응답을 DB 커서에서 읽는 대로 JSON 으로 써 내려간다.
+ * 거래 한 건씩 DTO 로 바꿔 쓰고 영속성 컨텍스트에서 분리하므로 거래 수와 무관하게 메모리 사용이 일정하다.
+ *
+ * 거래 수가 cache-max-rows 이하인 응답만 IntegrationReadCache 에 남긴다.
+ */
+@Slf4j
+@Component
+public class CardTransactionStreamWriter {
+
+    private static final String SUCCESS_MESSAGE = "카드 거래내역 조회 성공";
+
+    private final CardTransactionRepository cardTransactionRepository;
+    private final IntegrationReadCache integrationReadCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int cacheMaxRows;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CardTransactionStreamWriter(CardTransactionRepository cardTransactionRepository,
+                                       IntegrationReadCache integrationReadCache,
+                                       ObjectMapper objectMapper,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${integration.card-transactions.cache-max-rows:500}") int cacheMaxRows) {
+        this.cardTransactionRepository = cardTransactionRepository;
+        this.integrationReadCache = integrationReadCache;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cacheMaxRows = cacheMaxRows;
+    }
+
+    /**
+     * {"success":true,"message":...,"data":{"userId":..,"transactions":[...],"totalCount":..}} 형태로 쓴다.
+     * 쿼리를 연 뒤에 첫 바이트를 쓰므로 조회 자체가 실패하면 응답이 커밋되기 전에 예외가 전달된다.
+     */
+    public void write(Long userId, OutputStream out) throws IOException {
+        NearCache<Long, CardTransactionsResponse> cache = integrationReadCache.getCardTransactions();
+        CardTransactionsResponse cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                writeEnvelopeStart(generator);
+                generator.writeObject(cached);
+                generator.writeEndObject();
+            }
+            return;
+        }
+
+        long epoch = cache.currentEpoch();
+        List<IntegrationTransactionResponse> cacheable;
+        try {
+            cacheable = readOnlyTransaction.execute(status -> streamFromDatabase(userId, out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (cacheable != null) {
+            cache.putIfCurrent(userId, CardTransactionsResponse.builder()
+                    .userId(userId)
+                    .transactions(cacheable)
+                    .totalCount(cacheable.size())
+                    .build(), epoch);
+        }
+    }
+
+    // 캐시에 넣을 만큼 작으면 쓴 거래 목록을, 아니면 null 을 돌려준다
+    private List<IntegrationTransactionResponse> streamFromDatabase(Long userId, OutputStream out) {
+        try (Stream<CardTransaction> rows = cardTransactionRepository.streamByActiveCardsOfUser(userId);
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            Iterator<CardTransaction> iterator = rows.iterator();
+
+            writeEnvelopeStart(generator);
+            generator.writeStartObject();
+            generator.writeNumberField("userId", userId);
+            generator.writeArrayFieldStart("transactions");
+
+            List<IntegrationTransactionResponse> buffered = new ArrayList<>();
+            int totalCount = 0;
+            while (iterator.hasNext()) {
+                CardTransaction transaction = iterator.next();
+                IntegrationTransactionResponse item = IntegrationTransactionResponse.from(transaction);
+                entityManager.detach(transaction);
+                generator.writeObject(item);
+
+                totalCount++;
+                if (buffered != null) {
+                    if (totalCount <= cacheMaxRows) {
+                        buffered.add(item);
+                    } else {
+                        buffered = null;
+                    }
+                }
+            }
+
+            generator.writeEndArray();
+            generator.writeNumberField("totalCount", totalCount);
+            generator.writeEndObject();
+            generator.writeEndObject();
+
+            log.info("카드 거래내역 조회 성공 - 사용자ID: {}, 거래건수: {}", userId, totalCount);
+            return buffered;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeEnvelopeStart(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeBooleanField("success", true);
+        generator.writeStringField("message", SUCCESS_MESSAGE);
+        generator.writeFieldName("data");
+    }
+}
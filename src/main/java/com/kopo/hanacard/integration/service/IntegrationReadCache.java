@@ -0,0 +1,57 @@
+package com.kopo.hanacard.integration.service;
+
+import com.kopo.hanacard.card.event.CardTransactionCreatedEvent;
+import com.kopo.hanacard.common.cache.NearCache;
+import com.kopo.hanacard.hanamoney.event.HanamoneyBalanceChangedEvent;
+import com.kopo.hanacard.integration.dto.CardCustomerInfoResponse;
+import com.kopo.hanacard.integration.dto.CardInfoResponse;
+import com.kopo.hanacard.integration.dto.CardTransactionsResponse;
+import com.kopo.hanacard.integration.dto.ConsumptionSummaryResponse;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하나그린세상이 반복 조회하는 통합 API 결과를 사용자 ID 별로 캐시한다.
+ * 거래 생성과 하나머니 잔액 변경이 커밋되면 해당 사용자의 항목만 지우며,
+ * 카드 등록·해지처럼 이벤트가 없는 변경은 TTL 이 지나면 반영된다.
+ */
+@Getter
+@Component
+public class IntegrationReadCache {
+
+    private final NearCache<Long, CardInfoResponse> cardInfo;
+    private final NearCache<Long, CardTransactionsResponse> cardTransactions;
+    private final NearCache<Long, ConsumptionSummaryResponse> consumptionSummary;
+    private final NearCache<Long, CardCustomerInfoResponse> customerInfo;
+
+    public IntegrationReadCache(@Value("${integration.cache.max-entries:10000}") int maxEntries,
+                                @Value("${integration.cache.ttl-ms:60000}") long ttlMs) {
+        this.cardInfo = new NearCache<>("cardInfo", maxEntries, ttlMs);
+        this.cardTransactions = new NearCache<>("cardTransactions", maxEntries, ttlMs);
+        this.consumptionSummary = new NearCache<>("consumptionSummary", maxEntries, ttlMs);
+        this.customerInfo = new NearCache<>("customerInfo", maxEntries, ttlMs);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCardTransactionCreated(CardTransactionCreatedEvent event) {
+        Long userId = event.getUserId();
+        cardTransactions.invalidate(userId);
+        consumptionSummary.invalidate(userId);
+        customerInfo.invalidate(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHanamoneyBalanceChanged(HanamoneyBalanceChangedEvent event) {
+        customerInfo.invalidate(event.getUserId());
+    }
+
+    public List<Map<String, Object>> stats() {
+        return List.of(cardInfo.stats(), cardTransactions.stats(), consumptionSummary.stats(), customerInfo.stats());
+    }
+}
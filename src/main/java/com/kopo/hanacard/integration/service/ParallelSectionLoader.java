@@ -0,0 +1,131 @@
+package com.kopo.hanacard.integration.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 통합 응답의 독립된 섹션을 전용 스레드 풀에서 동시에 조회한다.
+ * 섹션마다 별도의 읽기 전용 트랜잭션을 쓰며, 제한 시간 안에 끝나지 않거나 실패한 섹션은 기본값으로 대체하고
+ * degradedSections 에 이름을 남긴다.
+ *
+ * 섹션 스레드는 각자 커넥션을 하나씩 쓰므로 스레드 수를 커넥션 풀 크기에서 요청 처리용 여유분을 뺀 값 이하로 잡는다.
+ * CompletableFuture 는 취소해도 실행 중인 작업을 멈추지 않으므로, 섹션 안의 쿼리 타임아웃을 남은 제한 시간에 맞추고
+ * 대기열에서 제한 시간을 넘긴 섹션은 커넥션을 잡지 않고 버린다.
+ *
+ * 스프링 부트 기본 applicationTaskExecutor 를 대체하지 않도록 풀을 빈으로 노출하지 않는다.
+ */
+@Slf4j
+@Component
+public class ParallelSectionLoader {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate inlineTransaction;
+
+    public ParallelSectionLoader(PlatformTransactionManager transactionManager,
+                                 EntityManagerFactory entityManagerFactory,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                                 @Value("${integration.customer-info.parallel.pool-size:16}") int poolSize,
+                                 @Value("${integration.customer-info.parallel.connection-headroom:2}") int connectionHeadroom,
+                                 @Value("${integration.customer-info.parallel.queue-capacity:200}") int queueCapacity,
+                                 @Value("${integration.customer-info.parallel.section-timeout-ms:800}") long sectionTimeoutMs) {
+        int threads = Math.max(1, Math.min(poolSize, connectionPoolSize - connectionHeadroom));
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("integration-section-");
+        this.executor.initialize();
+        log.info("통합 응답 섹션 스레드 수: {} (커넥션 풀 {}개, 여유분 {}개)", threads, connectionPoolSize, connectionHeadroom);
+
+        this.entityManagerFactory = entityManagerFactory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // 요청 스레드에서 차례로 조회할 때는 OSIV 의 EntityManager 를 함께 쓰므로 트랜잭션 타임아웃(초 단위)만 건다
+        this.inlineTransaction = new TransactionTemplate(transactionManager);
+        this.inlineTransaction.setReadOnly(true);
+        this.inlineTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs) + 1));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 섹션 조회를 시작한다. parallel 이 false 면 호출 스레드에서 바로 실행한다.
+     * deadlineNanos(System.nanoTime 기준)가 지나면 섹션 스레드의 쿼리는 타임아웃으로 끝난다.
+     */
+    public <T> CompletableFuture<T> load(Supplier<T> loader, boolean parallel, long deadlineNanos) {
+        if (!parallel) {
+            try {
+                return CompletableFuture.completedFuture(inlineTransaction.execute(status -> loader.get()));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> loadBefore(loader, deadlineNanos), executor);
+        } catch (RuntimeException e) {
+            // 풀과 대기열이 가득 찬 경우
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T loadBefore(Supplier<T> loader, long deadlineNanos) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMs <= 0) {
+            // 대기열에 있는 사이 응답은 이미 기본값으로 나갔다
+            throw new CancellationException("섹션 제한 시간 경과");
+        }
+        return readOnlyTransaction.execute(status -> {
+            // 섹션 스레드에서 새로 연 EntityManager 에만 걸리며, 이후 쿼리마다 남은 시간이 query timeout 힌트로 들어간다
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            if (holder != null) {
+                holder.setTimeoutInMillis(remainingMs);
+            }
+            return loader.get();
+        });
+    }
+
+    /**
+     * deadlineNanos(System.nanoTime 기준)까지 섹션 결과를 기다린다.
+     */
+    public <T> T await(String section, CompletableFuture<T> future, long deadlineNanos,
+                       T fallback, List<String> degradedSections) {
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 실행 중인 섹션은 멈추지 않지만 쿼리 타임아웃으로 곧 끝나고, 아직 대기열에 있으면 시작하지 않는다
+            future.cancel(true);
+            log.warn("통합 응답 섹션 시간 초과 - 섹션: {}", section);
+        } catch (ExecutionException e) {
+            log.warn("통합 응답 섹션 조회 실패 - 섹션: {}, 원인: {}", section, e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("통합 응답 섹션 대기 중 인터럽트 - 섹션: {}", section);
+        }
+        degradedSections.add(section);
+        return fallback;
+    }
+}
@@ -4,6 +4,8 @@ import com.kopo.hanacard.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +18,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhoneNumber(String phoneNumber);
     
     Optional<User> findByCi(String ci);
+
+    List<User> findByIdIn(Collection<Long> ids);
+
+    List<User> findByCiIn(Collection<String> cis);
     
     boolean existsByUsername(String username);
     
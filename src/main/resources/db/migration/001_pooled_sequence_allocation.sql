@@ -0,0 +1,13 @@
+-- 시퀀스 증가폭을 엔티티의 allocationSize(SequenceAllocation)와 맞춘다.
+-- pooled-lo 최적화기는 시퀀스 값을 블록의 시작값으로 사용하므로
+-- 기존 값 이후부터 블록이 할당되어 이미 발급된 ID와 겹치지 않는다.
+-- 운영(ddl-auto: validate) 배포 전에 한 번 실행한다.
+
+ALTER SEQUENCE CARD_TRANSACTIONS_SEQ INCREMENT BY 50;
+ALTER SEQUENCE HANAMONEY_TRANSACTIONS_SEQ INCREMENT BY 50;
+
+ALTER SEQUENCE USER_CARDS_SEQ INCREMENT BY 10;
+ALTER SEQUENCE HANAMONEY_MEMBERSHIPS_SEQ INCREMENT BY 10;
+
+ALTER SEQUENCE CARD_PRODUCTS_SEQ INCREMENT BY 5;
+ALTER SEQUENCE CARD_BENEFITS_SEQ INCREMENT BY 5;
@@ -0,0 +1,21 @@
+-- 하나그린세상 웹훅 트랜잭셔널 아웃박스
+
+CREATE SEQUENCE WEBHOOK_OUTBOX_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE webhook_outbox (
+    id              NUMBER(19)    NOT NULL,
+    webhook_type    VARCHAR2(50)  NOT NULL,
+    aggregate_id    NUMBER(19),
+    payload         CLOB          NOT NULL,
+    status          VARCHAR2(20)  NOT NULL,
+    attempt_count   NUMBER(10)    NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    lease_owner     VARCHAR2(36),
+    sent_at         TIMESTAMP(6),
+    last_error      VARCHAR2(1000),
+    created_at      TIMESTAMP(6)  NOT NULL,
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT pk_webhook_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_webhook_outbox_due ON webhook_outbox (status, next_attempt_at);
@@ -0,0 +1,4 @@
+-- 카드 거래내역 커서 페이지 조회용 인덱스
+-- (transaction_date DESC, id DESC) 순서로 읽어 정렬 없이 다음 페이지를 바로 찾는다.
+
+CREATE INDEX idx_card_tx_card_date_id ON card_transactions (user_card_id, transaction_date DESC, id DESC);
@@ -0,0 +1,3 @@
+-- 카테고리별 거래내역 조회용 인덱스
+
+CREATE INDEX idx_card_tx_card_category_date ON card_transactions (user_card_id, category, transaction_date);
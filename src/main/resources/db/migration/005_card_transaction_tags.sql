@@ -0,0 +1,33 @@
+-- 카드 거래 태그 색인 테이블과 기존 거래 태그 이관
+-- 태그는 한글이므로 길이를 문자 단위(CHAR)로 잡아 CardTransactionTag.MAX_TAG_LENGTH 와 같은 기준으로 맞춘다.
+
+CREATE SEQUENCE CARD_TRANSACTION_TAGS_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE card_transaction_tags (
+    id                  NUMBER(19)    NOT NULL,
+    card_transaction_id NUMBER(19)    NOT NULL,
+    user_card_id        NUMBER(19)    NOT NULL,
+    tag                 VARCHAR2(50 CHAR) NOT NULL,
+    transaction_date    TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_card_transaction_tags PRIMARY KEY (id),
+    CONSTRAINT uk_card_tx_tag UNIQUE (card_transaction_id, tag),
+    CONSTRAINT fk_card_tx_tag_transaction FOREIGN KEY (card_transaction_id) REFERENCES card_transactions (id)
+);
+
+CREATE INDEX idx_card_tx_tag_lookup
+    ON card_transaction_tags (user_card_id, tag, transaction_date DESC, card_transaction_id DESC);
+
+-- 쉼표 구분 tags 컬럼을 태그 단위 행으로 풀어 넣는다 (CardTransactionTagIndexer.parseTags 와 같은 규칙)
+INSERT INTO card_transaction_tags (id, card_transaction_id, user_card_id, tag, transaction_date)
+SELECT CARD_TRANSACTION_TAGS_SEQ.NEXTVAL, t.id, t.user_card_id, t.tag, t.transaction_date
+FROM (
+    SELECT DISTINCT ct.id, ct.user_card_id, TRIM(REGEXP_SUBSTR(ct.tags, '[^,]+', 1, n.lvl)) AS tag, ct.transaction_date
+    FROM card_transactions ct
+    JOIN (SELECT LEVEL AS lvl FROM dual CONNECT BY LEVEL <= 50) n
+      ON n.lvl <= REGEXP_COUNT(ct.tags, '[^,]+')
+    WHERE ct.tags IS NOT NULL
+) t
+WHERE t.tag IS NOT NULL
+  AND LENGTH(t.tag) <= 50;
+
+COMMIT;
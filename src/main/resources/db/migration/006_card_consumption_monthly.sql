@@ -0,0 +1,46 @@
+-- 카드별·월별·카테고리별 소비 집계 테이블과 기존 거래 이관
+
+CREATE SEQUENCE CARD_CONSUMPTION_MONTHLY_SEQ START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE card_consumption_monthly (
+    id             NUMBER(19)     NOT NULL,
+    user_card_id   NUMBER(19)     NOT NULL,
+    year_month     VARCHAR2(7)    NOT NULL,
+    category       VARCHAR2(100)  NOT NULL,
+    total_amount   NUMBER(19)     NOT NULL,
+    total_cashback NUMBER(19)     NOT NULL,
+    eco_amount     NUMBER(19)     NOT NULL,
+    eco_cashback   NUMBER(19)     NOT NULL,
+    tx_count       NUMBER(19)     NOT NULL,
+    created_at     TIMESTAMP(6)   NOT NULL,
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT pk_card_consumption_monthly PRIMARY KEY (id),
+    CONSTRAINT uk_card_consumption_monthly UNIQUE (user_card_id, year_month, category)
+);
+
+-- 친환경 판정은 CardConsumptionAggregator.isEco 와 같은 규칙
+INSERT INTO card_consumption_monthly
+    (id, user_card_id, year_month, category, total_amount, total_cashback, eco_amount, eco_cashback, tx_count, created_at, updated_at)
+SELECT CARD_CONSUMPTION_MONTHLY_SEQ.NEXTVAL, a.user_card_id, a.year_month, a.category,
+       a.total_amount, a.total_cashback, a.eco_amount, a.eco_cashback, a.tx_count, SYSTIMESTAMP, SYSTIMESTAMP
+FROM (
+    SELECT e.user_card_id,
+           TO_CHAR(e.transaction_date, 'YYYY-MM') AS year_month,
+           e.category,
+           SUM(e.amount) AS total_amount,
+           SUM(e.cashback) AS total_cashback,
+           SUM(CASE WHEN e.is_eco = 1 THEN e.amount ELSE 0 END) AS eco_amount,
+           SUM(CASE WHEN e.is_eco = 1 THEN e.cashback ELSE 0 END) AS eco_cashback,
+           COUNT(*) AS tx_count
+    FROM (
+        SELECT ct.user_card_id, ct.transaction_date, ct.category, ct.amount,
+               NVL(ct.cashback_amount, 0) AS cashback,
+               CASE WHEN ct.category IN ('친환경', '전기차', '대중교통', '공유킥보드', '리필샵', '유기농', '재활용')
+                      OR REGEXP_LIKE(ct.tags, '친환경|전기차|대중교통|공유킥보드|리필샵|유기농|재활용')
+                    THEN 1 ELSE 0 END AS is_eco
+        FROM card_transactions ct
+    ) e
+    GROUP BY e.user_card_id, TO_CHAR(e.transaction_date, 'YYYY-MM'), e.category
+) a;
+
+COMMIT;
@@ -0,0 +1,55 @@
+-- 친환경 가맹점 분류 사전과 거래 친환경 플래그.
+-- 기존 거래는 사전 기준으로 다시 판정하고 월별 집계의 친환경 금액도 같은 기준으로 다시 계산한다.
+
+CREATE SEQUENCE ECO_MERCHANTS_SEQ START WITH 1 INCREMENT BY 5;
+
+CREATE TABLE eco_merchants (
+    id           NUMBER(19)     NOT NULL,
+    match_type   VARCHAR2(30)   NOT NULL,
+    match_key    VARCHAR2(50)   NOT NULL,
+    eco_tag      VARCHAR2(50)   NOT NULL,
+    description  VARCHAR2(200),
+    is_active    NUMBER(1)      DEFAULT 1 NOT NULL,
+    created_at   TIMESTAMP(6)   NOT NULL,
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT pk_eco_merchants PRIMARY KEY (id),
+    CONSTRAINT uk_eco_merchants_match UNIQUE (match_type, match_key)
+);
+
+-- EcoMerchantDataInitializer 와 같은 기본 데이터 (사업자 번호는 숫자만 저장)
+INSERT INTO eco_merchants (id, match_type, match_key, eco_tag, description, is_active, created_at, updated_at)
+SELECT ECO_MERCHANTS_SEQ.NEXTVAL, s.match_type, s.match_key, s.eco_tag, s.description, 1, SYSTIMESTAMP, SYSTIMESTAMP
+FROM (
+    SELECT 'MERCHANT_CATEGORY' AS match_type, 'EV_CHARGING' AS match_key, '전기차' AS eco_tag, '전기차 충전소' AS description FROM dual
+    UNION ALL SELECT 'MERCHANT_CATEGORY', 'PUBLIC_TRANSPORT', '대중교통', '지하철, 버스' FROM dual
+    UNION ALL SELECT 'MERCHANT_CATEGORY', 'SHARED_MOBILITY', '공유킥보드', '공유 킥보드, 공유 자전거' FROM dual
+    UNION ALL SELECT 'MERCHANT_CATEGORY', 'REFILL_STATION', '리필샵', '리필 스테이션' FROM dual
+    UNION ALL SELECT 'MERCHANT_CATEGORY', 'ECO_BRAND', '친환경', '친환경 인증 브랜드' FROM dual
+    UNION ALL SELECT 'MERCHANT_CATEGORY', 'ORGANIC_FOOD', '유기농', '유기농 식품' FROM dual
+    UNION ALL SELECT 'MERCHANT_CATEGORY', 'RECYCLING', '재활용', '재활용, 중고 거래' FROM dual
+    UNION ALL SELECT 'BUSINESS_NUMBER', '2345678901', '전기차', '테슬라 충전소' FROM dual
+) s;
+
+ALTER TABLE card_transactions ADD (is_eco NUMBER(1) DEFAULT 0 NOT NULL);
+
+UPDATE card_transactions ct
+SET ct.is_eco = 1
+WHERE EXISTS (
+    SELECT 1 FROM eco_merchants em
+    WHERE em.is_active = 1
+      AND ((em.match_type = 'MERCHANT_CATEGORY' AND em.match_key = ct.merchant_category)
+        OR (em.match_type = 'BUSINESS_NUMBER' AND em.match_key = REGEXP_REPLACE(ct.business_number, '[^0-9]', '')))
+);
+
+UPDATE card_consumption_monthly m
+SET (m.eco_amount, m.eco_cashback) = (
+    SELECT NVL(SUM(ct.amount), 0), NVL(SUM(NVL(ct.cashback_amount, 0)), 0)
+    FROM card_transactions ct
+    WHERE ct.user_card_id = m.user_card_id
+      AND TO_CHAR(ct.transaction_date, 'YYYY-MM') = m.year_month
+      AND ct.category = m.category
+      AND ct.is_eco = 1
+),
+    m.updated_at = SYSTIMESTAMP;
+
+COMMIT;
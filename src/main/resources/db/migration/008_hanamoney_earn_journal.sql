@@ -0,0 +1,15 @@
+-- 하나머니 적립 모아두기 모드의 적립 저널.
+-- 반영 전 적립만 남는 테이블이라 평소에는 비어 있고, 반영된 행은 hanamoney_transactions 로 옮겨진 뒤 삭제된다.
+
+CREATE SEQUENCE HANAMONEY_EARN_JOURNAL_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE hanamoney_earn_journal (
+    id             NUMBER(19)     NOT NULL,
+    membership_id  NUMBER(19)     NOT NULL,
+    amount         NUMBER(19)     NOT NULL,
+    description    VARCHAR2(255),
+    created_at     TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_hanamoney_earn_journal PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_hm_earn_journal_member ON hanamoney_earn_journal (membership_id, id);
@@ -0,0 +1,32 @@
+-- 하나머니 잔액 체크포인트와 원장 재계산용 인덱스.
+-- 기존 멤버십은 현재 잔액과 지금까지의 거래 전체를 시작 체크포인트로 삼는다
+-- (초기 데이터처럼 원장 없이 잔액만 있는 멤버십도 이후 거래부터 대사할 수 있게 한다).
+
+CREATE SEQUENCE HANAMONEY_CHECKPOINTS_SEQ START WITH 1 INCREMENT BY 10;
+
+CREATE TABLE hanamoney_balance_checkpoints (
+    id                   NUMBER(19)    NOT NULL,
+    membership_id        NUMBER(19)    NOT NULL,
+    balance              NUMBER(19)    NOT NULL,
+    last_transaction_id  NUMBER(19)    NOT NULL,
+    transaction_count    NUMBER(19)    NOT NULL,
+    created_at           TIMESTAMP(6)  NOT NULL,
+    updated_at           TIMESTAMP(6),
+    CONSTRAINT pk_hm_balance_checkpoints PRIMARY KEY (id),
+    CONSTRAINT uk_hm_checkpoint_membership UNIQUE (membership_id)
+);
+
+CREATE INDEX idx_hm_tx_member_id ON hanamoney_transactions (membership_id, id);
+
+INSERT INTO hanamoney_balance_checkpoints
+    (id, membership_id, balance, last_transaction_id, transaction_count, created_at, updated_at)
+SELECT HANAMONEY_CHECKPOINTS_SEQ.NEXTVAL, c.membership_id, c.balance, c.last_transaction_id, c.transaction_count,
+       SYSTIMESTAMP, SYSTIMESTAMP
+FROM (
+    SELECT m.id AS membership_id, m.balance, NVL(MAX(t.id), 0) AS last_transaction_id, COUNT(t.id) AS transaction_count
+    FROM hanamoney_memberships m
+    LEFT JOIN hanamoney_transactions t ON t.membership_id = m.id
+    GROUP BY m.id, m.balance
+) c;
+
+COMMIT;
@@ -0,0 +1,6 @@
+-- 하나머니 거래내역 커서 페이지 조회용 인덱스
+-- (created_at DESC, id DESC) 순서는 인덱스를 역방향으로 읽어 정렬 없이 다음 페이지를 찾는다.
+-- 유형 필터 조회는 유형이 드물어도 멤버십 전체 이력을 훑지 않도록 유형을 앞에 둔 인덱스를 쓴다.
+
+CREATE INDEX idx_hm_tx_member_date_id ON hanamoney_transactions (membership_id, created_at, id);
+CREATE INDEX idx_hm_tx_member_type_date ON hanamoney_transactions (membership_id, transaction_type, created_at, id);
@@ -0,0 +1,4 @@
+-- 웹훅 아웃박스 보관 기간 정리용 인덱스
+-- 전송 완료/전송 포기 행을 상태별로 updated_at 범위 스캔해 오래된 것부터 지운다.
+
+CREATE INDEX idx_webhook_outbox_done ON webhook_outbox (status, updated_at);
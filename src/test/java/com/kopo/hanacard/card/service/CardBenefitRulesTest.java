@@ -0,0 +1,140 @@
+package com.kopo.hanacard.card.service;
+
+import com.kopo.hanacard.card.domain.CardBenefit;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CardBenefitRulesTest {
+
+    // CustomerCardDataInitializer 가 넣는 대중교통 혜택과 같은 값
+    private static final CardBenefit TRANSIT = benefit("대중교통", "교통", "2.00", 1000L, 50000L);
+
+    @Test
+    void seededTransitRuleAppliesRateAboveMinimum() {
+        CardBenefitRules rules = CardBenefitRules.compile(List.of(TRANSIT));
+
+        CardBenefitRules.Rule rule = rules.findBest("교통", null, 30000L);
+
+        assertThat(rule).isNotNull();
+        assertThat(rule.getBenefitType()).isEqualTo("대중교통");
+        assertThat(rule.getCashbackRate()).isEqualByComparingTo("2.00");
+        assertThat(rule.cashback(30000L)).isEqualTo(600L);
+        assertThat(rule.cashback(1000L)).isEqualTo(20L);
+    }
+
+    @Test
+    void belowMinimumAmountEarnsNothing() {
+        CardBenefitRules rules = CardBenefitRules.compile(List.of(TRANSIT));
+
+        assertThat(rules.findBest("교통", null, 999L)).isNull();
+    }
+
+    @Test
+    void maxAmountCapsTheSpendThatEarnsCashback() {
+        CardBenefitRules rules = CardBenefitRules.compile(List.of(TRANSIT));
+
+        CardBenefitRules.Rule rule = rules.findBest("교통", null, 80000L);
+
+        // 50,000원까지만 2% 가 붙는다
+        assertThat(rule.cashback(80000L)).isEqualTo(1000L);
+        assertThat(rule.cashback(50000L)).isEqualTo(1000L);
+    }
+
+    @Test
+    void missingLimitsMeanNoThresholdAndNoCap() {
+        CardBenefitRules rules = CardBenefitRules.compile(List.of(benefit("쇼핑 적립", "쇼핑", "1.00", null, null)));
+
+        CardBenefitRules.Rule rule = rules.findBest("쇼핑", null, 100L);
+
+        assertThat(rule.cashback(100L)).isEqualTo(1L);
+        assertThat(rule.cashback(10_000_000L)).isEqualTo(100_000L);
+    }
+
+    @Test
+    void percentIsRoundedHalfUpToBasisPoints() {
+        CardBenefitRules.Rule halfUp = CardBenefitRules.compile(List.of(benefit("a", "쇼핑", "1.255", null, null)))
+                .findBest("쇼핑", null, 10000L);
+        CardBenefitRules.Rule halfDown = CardBenefitRules.compile(List.of(benefit("b", "쇼핑", "1.234", null, null)))
+                .findBest("쇼핑", null, 10000L);
+
+        // 1.255% -> 126bp, 1.234% -> 123bp
+        assertThat(halfUp.cashback(10000L)).isEqualTo(126L);
+        assertThat(halfDown.cashback(10000L)).isEqualTo(123L);
+    }
+
+    @Test
+    void cashbackIsTruncatedToWholeWon() {
+        CardBenefitRules.Rule rule = CardBenefitRules.compile(List.of(benefit("친환경 가맹점", "쇼핑", "1.50", null, null)))
+                .findBest("쇼핑", null, 999L);
+
+        // 999 * 1.5% = 14.985
+        assertThat(rule.cashback(999L)).isEqualTo(14L);
+    }
+
+    @Test
+    void wildcardCategoriesApplyToEveryTransaction() {
+        for (String wildcard : List.of("전체", "ALL", "적립")) {
+            CardBenefitRules rules = CardBenefitRules.compile(List.of(benefit("기본 적립", wildcard, "1.00", null, null)));
+
+            assertThat(rules.findBest("식비", "음식점", 10000L)).isNotNull();
+            assertThat(rules.findBest(null, null, 10000L)).isNotNull();
+        }
+    }
+
+    @Test
+    void categorySpecificRuleDoesNotMatchOtherCategories() {
+        CardBenefitRules rules = CardBenefitRules.compile(List.of(TRANSIT));
+
+        assertThat(rules.findBest("식비", "음식점", 10000L)).isNull();
+    }
+
+    @Test
+    void picksRuleMatchedByMerchantCategoryWhenItEarnsMore() {
+        CardBenefitRules rules = CardBenefitRules.compile(List.of(
+                benefit("쇼핑", "쇼핑", "1.50", null, null),
+                TRANSIT));
+
+        CardBenefitRules.Rule rule = rules.findBest("쇼핑", "교통", 10000L);
+
+        assertThat(rule.getBenefitType()).isEqualTo("대중교통");
+        assertThat(rule.cashback(10000L)).isEqualTo(200L);
+    }
+
+    @Test
+    void cappedHigherRateLosesToUncappedLowerRateOnLargeSpend() {
+        CardBenefitRules rules = CardBenefitRules.compile(List.of(
+                TRANSIT,
+                benefit("원큐씨앗 적립", "적립", "1.00", 1000L, 1000000L)));
+
+        // 교통 2%: 50,000원 한도로 1,000원, 전체 1%: 2,000원
+        assertThat(rules.findBest("교통", null, 200000L).getBenefitType()).isEqualTo("원큐씨앗 적립");
+        // 한도 안에서는 2% 가 더 크다
+        assertThat(rules.findBest("교통", null, 30000L).getBenefitType()).isEqualTo("대중교통");
+    }
+
+    @Test
+    void benefitsWithoutPositiveCashbackRateAreIgnored() {
+        CardBenefitRules rules = CardBenefitRules.compile(List.of(
+                benefit("할인", "교통", "0.00", null, null),
+                benefit("할인", "쇼핑", null, null, null)));
+
+        assertThat(rules).isSameAs(CardBenefitRules.EMPTY);
+        assertThat(rules.findBest("교통", "쇼핑", 10000L)).isNull();
+    }
+
+    private static CardBenefit benefit(String benefitType, String category, String cashbackRate,
+                                       Long minAmount, Long maxAmount) {
+        return CardBenefit.builder()
+                .benefitType(benefitType)
+                .category(category)
+                .cashbackRate(cashbackRate != null ? new BigDecimal(cashbackRate) : null)
+                .discountRate(BigDecimal.ZERO)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .build();
+    }
+}
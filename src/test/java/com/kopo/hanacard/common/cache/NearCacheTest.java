@@ -0,0 +1,126 @@
+package com.kopo.hanacard.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheTest {
+
+    private static final long ONE_MINUTE_MS = 60_000L;
+
+    @Test
+    void loadsOnceAndServesFromCache() {
+        NearCache<Long, String> cache = new NearCache<>("test", 10, ONE_MINUTE_MS);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void skipsValuesRejectedByPredicate() {
+        NearCache<Long, String> cache = new NearCache<>("test", 10, ONE_MINUTE_MS);
+
+        assertThat(cache.get(1L, () -> "degraded", value -> false)).isEqualTo("degraded");
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void invalidationDuringLoadDiscardsThatKeysResult() {
+        NearCache<Long, String> cache = new NearCache<>("test", 10, ONE_MINUTE_MS);
+
+        // 조회가 DB 를 읽는 도중 같은 키가 무효화된다
+        String value = cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.get(1L, () -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.getIfPresent(1L)).isEqualTo("fresh");
+    }
+
+    @Test
+    void invalidatingOtherKeyDoesNotBlockLoad() {
+        NearCache<Long, String> cache = new NearCache<>("test", 10, ONE_MINUTE_MS);
+
+        long epoch = cache.currentEpoch();
+        cache.invalidate(2L);
+        cache.invalidate(3L);
+
+        assertThat(cache.putIfCurrent(1L, "v1", epoch)).isTrue();
+        assertThat(cache.putIfCurrent(2L, "v2", epoch)).isFalse();
+        assertThat(cache.getIfPresent(1L)).isEqualTo("v1");
+        assertThat(cache.getIfPresent(2L)).isNull();
+    }
+
+    @Test
+    void loadStartedAfterInvalidationIsStored() {
+        NearCache<Long, String> cache = new NearCache<>("test", 10, ONE_MINUTE_MS);
+
+        cache.invalidate(1L);
+        long epoch = cache.currentEpoch();
+
+        assertThat(cache.putIfCurrent(1L, "v1", epoch)).isTrue();
+    }
+
+    @Test
+    void invalidateAllDiscardsEveryInFlightLoad() {
+        NearCache<Long, String> cache = new NearCache<>("test", 10, ONE_MINUTE_MS);
+        cache.get(1L, () -> "v1");
+
+        long epoch = cache.currentEpoch();
+        cache.invalidateAll();
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.putIfCurrent(2L, "v2", epoch)).isFalse();
+        assertThat(cache.putIfCurrent(2L, "v2", cache.currentEpoch())).isTrue();
+    }
+
+    @Test
+    void tombstoneOverflowStillDiscardsOlderLoads() {
+        NearCache<Long, String> cache = new NearCache<>("test", 2, ONE_MINUTE_MS);
+
+        long epoch = cache.currentEpoch();
+        cache.invalidate(1L);
+        cache.invalidate(2L);
+        cache.invalidate(3L); // 묘비 한도를 넘겨 비워진다
+
+        assertThat(cache.putIfCurrent(1L, "v1", epoch)).isFalse();
+        assertThat(cache.putIfCurrent(4L, "v4", epoch)).isFalse();
+        assertThat(cache.putIfCurrent(1L, "v1", cache.currentEpoch())).isTrue();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        NearCache<Long, String> cache = new NearCache<>("test", 2, ONE_MINUTE_MS);
+        cache.get(1L, () -> "v1");
+        cache.get(2L, () -> "v2");
+
+        // 1 을 읽어 최근 사용으로 만든 뒤 3 을 넣으면 2 가 밀려난다
+        cache.getIfPresent(1L);
+        cache.get(3L, () -> "v3");
+
+        assertThat(cache.getIfPresent(1L)).isEqualTo("v1");
+        assertThat(cache.getIfPresent(2L)).isNull();
+        assertThat(cache.getIfPresent(3L)).isEqualTo("v3");
+        assertThat(cache.stats()).containsEntry("evictions", 1L).containsEntry("size", 2);
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        NearCache<Long, String> cache = new NearCache<>("test", 10, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
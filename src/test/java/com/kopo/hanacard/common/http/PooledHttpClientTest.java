@@ -0,0 +1,129 @@
+package com.kopo.hanacard.common.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledHttpClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "slow".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void sequentialRequestsReuseSingleConnection() throws Exception {
+        try (PooledHttpClient client = new PooledHttpClient(OutboundHttpSettings.builder().build())) {
+            RestTemplate restTemplate = client.restTemplate();
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(restTemplate.getForObject(baseUrl + "/ok", String.class)).isEqualTo("ok");
+            }
+
+            assertThat(client.getRequestCount()).isEqualTo(5);
+            assertThat(client.getConnectionsCreated()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void slowResponseFailsWithinResponseTimeout() throws Exception {
+        OutboundHttpSettings settings = OutboundHttpSettings.builder()
+                .responseTimeout(Duration.ofMillis(200))
+                .build();
+
+        try (PooledHttpClient client = new PooledHttpClient(settings)) {
+            RestTemplate restTemplate = client.restTemplate();
+            long started = System.nanoTime();
+
+            assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/slow", String.class))
+                    .isInstanceOf(ResourceAccessException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+        }
+    }
+
+    @Test
+    void saturatedRouteFailsFastInsteadOfQueueing() throws Exception {
+        OutboundHttpSettings settings = OutboundHttpSettings.builder()
+                .routeLimits(Map.of(baseUrl, 1))
+                .connectionRequestTimeout(Duration.ofMillis(200))
+                .build();
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try (PooledHttpClient client = new PooledHttpClient(settings)) {
+            RestTemplate restTemplate = client.restTemplate();
+
+            // 유일한 커넥션을 느린 요청이 붙잡고 있는 동안 두 번째 요청을 보낸다
+            Future<String> holder = callers.submit(() -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+            waitUntilLeased(client);
+
+            long started = System.nanoTime();
+            assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/ok", String.class))
+                    .isInstanceOf(ResourceAccessException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+
+            release.countDown();
+            assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private void waitUntilLeased(PooledHttpClient client) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (((Number) client.metrics().get("leased")).intValue() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.kopo.hanacard.hanamoney.service;
+
+import com.kopo.hanacard.common.exception.BusinessException;
+import com.kopo.hanacard.common.exception.ErrorCode;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import com.kopo.hanacard.hanamoney.domain.HanamoneyTransaction;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyMembershipRepository;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyTransactionRepository;
+import com.kopo.hanacard.user.domain.User;
+import com.kopo.hanacard.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 스레드가 같은 멤버십에 동시에 적립/차감해도 갱신이 유실되거나 잔액이 음수가 되지 않는지,
+ * 반대 방향 이체가 동시에 들어와도 교착 없이 끝나는지 확인한다.
+ * 각 작업은 별도 트랜잭션으로 커밋되어야 하므로 테스트 메서드 자체는 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hanamoney-ledger;MODE=Oracle;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(HanamoneyLedger.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HanamoneyLedgerConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    @Autowired
+    private HanamoneyLedger hanamoneyLedger;
+
+    @Autowired
+    private HanamoneyMembershipRepository hanamoneyMembershipRepository;
+
+    @Autowired
+    private HanamoneyTransactionRepository hanamoneyTransactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService workers;
+    private Long membershipId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        workers = Executors.newFixedThreadPool(THREADS);
+        membershipId = transactionTemplate.execute(status -> createMembership().getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCreditsAreNotLost() throws Exception {
+        long amount = 2_500L;
+
+        runConcurrently(() -> {
+            transactionTemplate.executeWithoutResult(status ->
+                    hanamoneyLedger.credit(load(), amount));
+            return true;
+        });
+
+        HanamoneyMembership membership = hanamoneyMembershipRepository.findById(membershipId).orElseThrow();
+        long expected = amount * THREADS * OPERATIONS_PER_THREAD;
+        assertThat(membership.getBalance()).isEqualTo(expected);
+        assertThat(membership.getTotalEarned()).isEqualTo(expected);
+        assertThat(membership.getMembershipLevel()).isEqualTo("GOLD");
+    }
+
+    @Test
+    void concurrentDebitsNeverOverdraw() throws Exception {
+        long initialBalance = 5_000L;
+        long amount = 100L;
+        transactionTemplate.executeWithoutResult(status -> hanamoneyLedger.credit(load(), initialBalance));
+
+        AtomicInteger rejected = new AtomicInteger();
+        int succeeded = runConcurrently(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> hanamoneyLedger.debit(load(), amount));
+                return true;
+            } catch (BusinessException e) {
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+                rejected.incrementAndGet();
+                return false;
+            }
+        });
+
+        HanamoneyMembership membership = hanamoneyMembershipRepository.findById(membershipId).orElseThrow();
+        assertThat(succeeded).isEqualTo((int) (initialBalance / amount));
+        assertThat(rejected.get()).isEqualTo(THREADS * OPERATIONS_PER_THREAD - succeeded);
+        assertThat(membership.getBalance()).isZero();
+        assertThat(membership.getTotalSpent()).isEqualTo(initialBalance);
+    }
+
+    @Test
+    void concurrentCreditsAndDebitsBalanceOut() throws Exception {
+        long amount = 100L;
+        // 차감이 잔액 부족으로 거절되지 않도록 충분히 적립해 두고 시작한다
+        long initialBalance = amount * THREADS * OPERATIONS_PER_THREAD;
+        transactionTemplate.executeWithoutResult(status -> hanamoneyLedger.credit(load(), initialBalance));
+
+        AtomicInteger sequence = new AtomicInteger();
+        runConcurrently(() -> {
+            boolean credit = sequence.getAndIncrement() % 2 == 0;
+            transactionTemplate.executeWithoutResult(status -> {
+                if (credit) {
+                    hanamoneyLedger.credit(load(), amount);
+                } else {
+                    hanamoneyLedger.debit(load(), amount);
+                }
+            });
+            return true;
+        });
+
+        HanamoneyMembership membership = hanamoneyMembershipRepository.findById(membershipId).orElseThrow();
+        long operations = (long) THREADS * OPERATIONS_PER_THREAD;
+        assertThat(membership.getBalance()).isEqualTo(initialBalance);
+        assertThat(membership.getTotalEarned()).isEqualTo(initialBalance + amount * (operations / 2));
+        assertThat(membership.getTotalSpent()).isEqualTo(amount * (operations / 2));
+    }
+
+    @Test
+    void opposingTransfersDoNotDeadlock() throws Exception {
+        long initialBalance = 1_000_000L;
+        long amount = 10L;
+        Long otherId = transactionTemplate.execute(status -> createMembership().getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            hanamoneyLedger.credit(load(), initialBalance);
+            hanamoneyLedger.credit(hanamoneyMembershipRepository.findById(otherId).orElseThrow(), initialBalance);
+        });
+
+        // 절반은 A→B, 절반은 B→A 로 같은 두 행을 반대 방향에서 동시에 잠그게 한다
+        AtomicInteger sequence = new AtomicInteger();
+        runConcurrently(() -> {
+            boolean forward = sequence.getAndIncrement() % 2 == 0;
+            hanamoneyLedger.transfer(forward ? membershipId : otherId, forward ? otherId : membershipId, amount, "이체");
+            return true;
+        });
+
+        int transfers = THREADS * OPERATIONS_PER_THREAD;
+        HanamoneyMembership a = load();
+        HanamoneyMembership b = hanamoneyMembershipRepository.findById(otherId).orElseThrow();
+        assertThat(a.getBalance()).isEqualTo(initialBalance);
+        assertThat(b.getBalance()).isEqualTo(initialBalance);
+        assertThat(a.getTotalSpent()).isEqualTo(amount * transfers / 2);
+        assertThat(b.getTotalSpent()).isEqualTo(amount * transfers / 2);
+
+        List<HanamoneyTransaction> entries = hanamoneyTransactionRepository.findByMembership(a);
+        assertThat(entries).hasSize(transfers);
+        assertThat(entries).filteredOn(e -> e.getTransactionType() == HanamoneyTransaction.TransactionType.TRANSFER_OUT)
+                .hasSize(transfers / 2);
+    }
+
+    @Test
+    void rejectedTransferLeavesBothSidesUntouched() {
+        Long otherId = transactionTemplate.execute(status -> createMembership().getId());
+        transactionTemplate.executeWithoutResult(status -> hanamoneyLedger.credit(load(), 50L));
+
+        assertThatThrownBy(() -> hanamoneyLedger.transfer(membershipId, otherId, 100L, "이체"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+        assertThat(load().getBalance()).isEqualTo(50L);
+        assertThat(hanamoneyMembershipRepository.findById(otherId).orElseThrow().getBalance()).isZero();
+        assertThat(hanamoneyTransactionRepository.findByMembership(load())).isEmpty();
+    }
+
+    /**
+     * 모든 스레드를 동시에 출발시켜 각각 OPERATIONS_PER_THREAD 번 작업을 실행하고, true 를 반환한 횟수를 돌려준다.
+     */
+    private int runConcurrently(Callable<Boolean> operation) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(workers.submit(() -> {
+                start.await();
+                int count = 0;
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    if (operation.call()) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+        start.countDown();
+
+        int total = 0;
+        for (Future<Integer> future : futures) {
+            total += future.get(60, TimeUnit.SECONDS);
+        }
+        return total;
+    }
+
+    private HanamoneyMembership load() {
+        return hanamoneyMembershipRepository.findById(membershipId).orElseThrow();
+    }
+
+    private HanamoneyMembership createMembership() {
+        String key = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .username("ledger-" + key)
+                .email("ledger-" + key + "@test.com")
+                .phoneNumber("010-" + key)
+                .name("동시성테스트")
+                .birthDate("19900101")
+                .build());
+        return hanamoneyMembershipRepository.save(HanamoneyMembership.builder()
+                .user(user)
+                .membershipId(UUID.randomUUID().toString())
+                .build());
+    }
+}
@@ -0,0 +1,156 @@
+package com.kopo.hanacard.hanamoney.service;
+
+import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import com.kopo.hanacard.hanamoney.repository.HanamoneyMembershipRepository;
+import com.kopo.hanacard.user.domain.User;
+import com.kopo.hanacard.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 멤버십 사이에서 임의 방향 이체를 동시에 실행해 초당 처리 건수를 잰다.
+ * 수치는 환경에 따라 크게 달라지므로 일반 테스트 실행에서는 돌지 않고, HANACARD_BENCHMARK=true 일 때만 실행한다.
+ * (예: HANACARD_BENCHMARK=true ./gradlew test --tests '*HanamoneyTransferBenchmarkTest')
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "HANACARD_BENCHMARK", matches = "true")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hanamoney-transfer-bench;MODE=Oracle;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(HanamoneyLedger.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HanamoneyTransferBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HanamoneyTransferBenchmarkTest.class);
+
+    private static final int THREADS = 16;
+    private static final int MEMBERSHIPS = 32;
+    private static final int WARMUP_TRANSFERS_PER_THREAD = 50;
+    private static final int TRANSFERS_PER_THREAD = 500;
+    private static final long INITIAL_BALANCE = 10_000_000L;
+    private static final long AMOUNT = 10L;
+
+    @Autowired
+    private HanamoneyLedger hanamoneyLedger;
+
+    @Autowired
+    private HanamoneyMembershipRepository hanamoneyMembershipRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService workers;
+    private List<Long> membershipIds;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        workers = Executors.newFixedThreadPool(THREADS);
+        membershipIds = new ArrayList<>(MEMBERSHIPS);
+        for (int i = 0; i < MEMBERSHIPS; i++) {
+            Long membershipId = transactionTemplate.execute(status -> createMembership().getId());
+            transactionTemplate.executeWithoutResult(status -> hanamoneyLedger.credit(
+                    hanamoneyMembershipRepository.findById(membershipId).orElseThrow(), INITIAL_BALANCE));
+            membershipIds.add(membershipId);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void concurrentTransferThroughput() throws Exception {
+        runTransfers(WARMUP_TRANSFERS_PER_THREAD);
+
+        long started = System.nanoTime();
+        runTransfers(TRANSFERS_PER_THREAD);
+        long elapsedNanos = System.nanoTime() - started;
+
+        int transfers = THREADS * TRANSFERS_PER_THREAD;
+        double perSecond = transfers / (elapsedNanos / 1_000_000_000.0);
+        log.info("하나머니 이체 처리량 - 스레드: {}, 멤버십: {}, 이체: {}건, {}ms, {} 건/초",
+                THREADS, MEMBERSHIPS, transfers, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), String.format("%.1f", perSecond));
+
+        // 이체는 잔액을 옮기기만 하므로 전체 합은 그대로여야 한다
+        long total = hanamoneyMembershipRepository.findAllById(membershipIds).stream()
+                .mapToLong(HanamoneyMembership::getBalance)
+                .sum();
+        assertThat(total).isEqualTo(INITIAL_BALANCE * MEMBERSHIPS);
+    }
+
+    private void runTransfers(int transfersPerThread) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(workers.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < transfersPerThread; i++) {
+                    int from = random.nextInt(MEMBERSHIPS);
+                    int to = (from + 1 + random.nextInt(MEMBERSHIPS - 1)) % MEMBERSHIPS;
+                    hanamoneyLedger.transfer(membershipIds.get(from), membershipIds.get(to), AMOUNT, "이체");
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+    }
+
+    private HanamoneyMembership createMembership() {
+        String key = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .username("bench-" + key)
+                .email("bench-" + key + "@test.com")
+                .phoneNumber("010-" + key)
+                .name("이체벤치마크")
+                .birthDate("19900101")
+                .build());
+        return hanamoneyMembershipRepository.save(HanamoneyMembership.builder()
+                .user(user)
+                .membershipId(UUID.randomUUID().toString())
+                .build());
+    }
+}